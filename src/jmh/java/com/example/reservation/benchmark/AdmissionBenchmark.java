@@ -0,0 +1,76 @@
+package com.example.reservation.benchmark;
+
+import com.example.reservation.cache.ReservationSlotLedger;
+import com.example.reservation.concurrent.ReservationAdmission;
+import com.example.reservation.exception.ReservationException;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 예약 접수 창구 처리량, 64개 스레드가 동시에 요청
+ * 애플리케이션 없이 장부와 접수 창구만 만들고 저장 로직은 바로 리턴하므로, 장부의 날짜별 락에서 기다리는 비용이 측정된다.
+ * admitFreeSlot 은 매번 다른 시간에 예약하고, stores 가 1 이면 모든 스레드가 한 매장의 같은 날짜 락을 두고 경쟁한다.
+ * admitSavingSlot 은 다른 요청이 저장 중인 시간을 요청해서 DB 확인 없이 거절되는 경로다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(64)
+public class AdmissionBenchmark {
+
+    private static final int MINUTES_OF_DAY = 24 * 60;
+    private static final int SAVING_SLOTS = 64;
+    private static final LocalDate FIRST_DAY = LocalDate.now().plusDays(1);
+
+    @Param({"1", "1000"})
+    public int stores;
+
+    private ReservationAdmission admission;
+    private final AtomicLong request = new AtomicLong();
+
+    // 반복마다 장부를 새로 만들어서 점유된 날짜가 계속 쌓이지 않도록 한다.
+    @Setup(Level.Iteration)
+    public void setUp() {
+        // 저장 중인 시간과 비어있는 시간만 요청하므로 DB 확인(저장소)은 사용되지 않는다.
+        ReservationSlotLedger slotLedger = new ReservationSlotLedger(null);
+        admission = new ReservationAdmission(slotLedger, null);
+        request.set(0);
+
+        for (int i = 0; i < SAVING_SLOTS; i++) {
+            slotLedger.tryOccupy(0L, savingSlot(i));
+        }
+    }
+
+    @Benchmark
+    public Long admitFreeSlot() {
+        long n = request.getAndIncrement();
+        long storeId = n % stores;
+        long minutes = n / stores;
+
+        LocalDateTime reservationDate = FIRST_DAY.plusDays(minutes / MINUTES_OF_DAY + 1)
+                .atStartOfDay()
+                .plusMinutes(minutes % MINUTES_OF_DAY);
+
+        return admission.admit(storeId, reservationDate, () -> n);
+    }
+
+    @Benchmark
+    public boolean admitSavingSlot() {
+        long n = request.getAndIncrement();
+
+        try {
+            admission.admit(0L, savingSlot((int) (n % SAVING_SLOTS)), () -> n);
+            return true;
+        } catch (ReservationException e) {
+            return false;
+        }
+    }
+
+    private static LocalDateTime savingSlot(int i) {
+        return FIRST_DAY.atTime(10, 0).plusMinutes(i);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.reservation.benchmark;
+
+import com.example.reservation.ReservationApplication;
+import com.example.reservation.service.MemberService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * 벤치마크용 애플리케이션 실행과 로그인 처리
+ * jmh 프로필(내장 H2)로 애플리케이션을 띄우고 BenchmarkData 로 데이터를 적재한다.
+ */
+public final class BenchmarkContext {
+
+    static {
+        // 벤치마크 스레드와 @Setup 스레드가 다를 수 있으므로 인증 정보를 모든 스레드에서 공유
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+    }
+
+    private BenchmarkContext() {
+    }
+
+    // args 는 명령행 인자와 같이 적용되므로 설정 파일의 값을 덮어쓸 수 있다. (예: "--spring.jwt.verified-token-cache.enabled=false")
+    public static ConfigurableApplicationContext start(String... args) {
+        return new SpringApplicationBuilder(ReservationApplication.class, BenchmarkData.class)
+                .profiles("jmh")
+                .logStartupInfo(false)
+                .run(args);
+    }
+
+    public static Authentication authentication(ConfigurableApplicationContext context, String userId) {
+        UserDetails userDetails = context.getBean(MemberService.class).loadUserByUsername(userId);
+
+        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+    }
+
+    public static void login(Authentication authentication) {
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.reservation.benchmark;
+
+import com.example.reservation.domain.entity.Member;
+import com.example.reservation.domain.entity.Reservation;
+import com.example.reservation.domain.entity.Store;
+import com.example.reservation.repository.MemberRepository;
+import com.example.reservation.repository.ReservationRepository;
+import com.example.reservation.repository.StoreRepository;
+import com.example.reservation.type.MemberType;
+import com.example.reservation.type.ReservationStatus;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 벤치마크 데이터 적재
+ * ApplicationRunner 로 실행되므로 검색 인덱스, 예약 시간 장부 등이 ApplicationReadyEvent 에서 적재되기 전에 데이터가 들어간다.
+ * 사용자 1,000명, 파트너 100명, 매장 10,000개, 지난 예약 100,000건과 인기 매장의 HOT_DATE 예약 288건(5분 간격)을 만든다.
+ */
+public class BenchmarkData implements ApplicationRunner {
+
+    public static final int USERS = 1_000;
+    public static final int PARTNERS = 100;
+    public static final int STORES = 10_000;
+    public static final int PAST_DAYS = 10;
+    public static final int HOT_SLOTS = 288;
+    public static final LocalDate HOT_DATE = LocalDate.now().plusDays(1);
+
+    public static final String[] NAME_PREFIXES = {"피자", "치킨", "카페", "분식", "국밥", "초밥", "버거", "파스타", "빵집", "곱창"};
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    private final MemberRepository memberRepository;
+    private final StoreRepository storeRepository;
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private long[] storeIds;
+
+    public BenchmarkData(MemberRepository memberRepository,
+                         StoreRepository storeRepository,
+                         ReservationRepository reservationRepository,
+                         TransactionTemplate transactionTemplate) {
+        this.memberRepository = memberRepository;
+        this.storeRepository = storeRepository;
+        this.reservationRepository = reservationRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public static String user(int i) {
+        return "user" + i;
+    }
+
+    public static String partner(int i) {
+        return "partner" + i;
+    }
+
+    // 인기 매장, partner0 의 매장
+    public Long getHotStoreId() {
+        return storeIds[0];
+    }
+
+    // i 번째로 만든 매장의 번호, i 번째 매장의 점장은 partner(i % PARTNERS)
+    public Long getStoreId(int i) {
+        return storeIds[i];
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<Member> users = new ArrayList<>(USERS);
+        List<Member> partners = new ArrayList<>(PARTNERS);
+
+        for (int i = 0; i < USERS; i++) {
+            users.add(member(user(i), MemberType.ROLE_USER));
+        }
+        for (int i = 0; i < PARTNERS; i++) {
+            partners.add(member(partner(i), MemberType.ROLE_PARTNER));
+        }
+
+        users = saveInChunks(users, memberRepository::saveAll);
+        saveInChunks(partners, memberRepository::saveAll);
+
+        List<Store> stores = new ArrayList<>(STORES);
+
+        for (int i = 0; i < STORES; i++) {
+            stores.add(Store.builder()
+                    .owner(partner(i % PARTNERS))
+                    .name(NAME_PREFIXES[i % NAME_PREFIXES.length] + " " + i + "호점")
+                    .address("서울시 벤치구 " + i + "번길")
+                    .description("벤치마크 매장 " + i)
+                    .contact(String.format("02-%04d-%04d", i / 10_000, i % 10_000))
+                    .open(LocalTime.of(9, 0))
+                    .close(LocalTime.of(22, 0))
+                    .build());
+        }
+
+        stores = saveInChunks(stores, storeRepository::saveAll);
+        storeIds = stores.stream().mapToLong(Store::getId).toArray();
+
+        List<Reservation> reservations = new ArrayList<>(STORES * PAST_DAYS + HOT_SLOTS);
+        LocalDate today = LocalDate.now();
+
+        // 매장마다 지난 PAST_DAYS 일 동안 하루 한 건
+        for (int day = 1; day <= PAST_DAYS; day++) {
+            LocalDateTime date = today.minusDays(day).atTime(12, 0);
+
+            for (int i = 0; i < STORES; i++) {
+                reservations.add(reservation(users.get((i + day) % USERS), stores.get(i), date, ReservationStatus.APPROVAL));
+            }
+        }
+
+        // 인기 매장의 HOT_DATE 하루 동안 5분 간격
+        for (int slot = 0; slot < HOT_SLOTS; slot++) {
+            reservations.add(reservation(users.get(slot % USERS), stores.get(0),
+                    HOT_DATE.atStartOfDay().plusMinutes(5L * slot), ReservationStatus.WAITING));
+        }
+
+        saveInChunks(reservations, reservationRepository::saveAll);
+    }
+
+    private static Member member(String userId, MemberType memberType) {
+        return Member.builder()
+                .userId(userId)
+                .password("{noop}password")
+                .name(userId)
+                .phone("010-0000-0000")
+                .memberType(memberType)
+                .build();
+    }
+
+    private static Reservation reservation(Member member, Store store, LocalDateTime date, ReservationStatus status) {
+        return Reservation.builder()
+                .member(member)
+                .store(store)
+                .reservationDate(date)
+                .reservationStatus(status)
+                .build();
+    }
+
+    private <T> List<T> saveInChunks(List<T> entities, Function<List<T>, List<T>> saveAll) {
+        List<T> saved = new ArrayList<>(entities.size());
+
+        for (int from = 0; from < entities.size(); from += CHUNK_SIZE) {
+            List<T> chunk = entities.subList(from, Math.min(from + CHUNK_SIZE, entities.size()));
+            saved.addAll(transactionTemplate.execute(status -> saveAll.apply(chunk)));
+        }
+
+        return saved;
+    }
+}
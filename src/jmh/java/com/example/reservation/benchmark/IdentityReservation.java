@@ -0,0 +1,50 @@
+package com.example.reservation.benchmark;
+
+import com.example.reservation.domain.entity.Member;
+import com.example.reservation.domain.entity.Store;
+import com.example.reservation.type.ReservationStatus;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 아이디를 IDENTITY 로 생성하는 예약, ReservationInsertBenchmark 의 이전 방식 비교용
+ * Reservation 과 같은 컬럼과 유니크 제약조건을 가지며 벤치마크 실행 시에만 테이블이 만들어진다.
+ */
+@Entity
+@Table(name = "identity_reservation", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_identity_reservation_store_date", columnNames = {"store_id", "reservation_date"})
+})
+public class IdentityReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    private Member member;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "store_id")
+    private Store store;
+
+    private boolean visitYn;
+
+    @Column(name = "reservation_date")
+    private LocalDateTime reservationDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reservation_status")
+    private ReservationStatus reservationStatus;
+
+    protected IdentityReservation() {
+    }
+
+    public IdentityReservation(Member member, Store store, LocalDateTime reservationDate, ReservationStatus reservationStatus) {
+        this.member = member;
+        this.store = store;
+        this.reservationDate = reservationDate;
+        this.reservationStatus = reservationStatus;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.reservation.benchmark;
+
+import com.example.reservation.domain.entity.Member;
+import com.example.reservation.domain.entity.Reservation;
+import com.example.reservation.domain.entity.Store;
+import com.example.reservation.domain.model.ReservationPartnerResponse;
+import com.example.reservation.repository.MemberRepository;
+import com.example.reservation.repository.ReservationRepository;
+import com.example.reservation.repository.StoreRepository;
+import com.example.reservation.service.ReservationService;
+import com.example.reservation.type.ReservationStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 파트너 예약 내역 조회, 날짜 범위 조회(new)와 이전의 페이지 조회 후 날짜 필터(old) 비교
+ * 예약이 reservations 건 있는 매장에 하루 288건(5분 간격)씩 서로 다른 사용자의 예약을 넣고, 가운데 날짜의 첫 페이지를 조회한다.
+ * 이전 방식은 매장의 전체 예약을 날짜 순으로 페이징했으므로 요청한 날짜가 시작되는 위치까지 건너뛰어야 같은 결과를 얻는다.
+ * 두 방식 모두 한 트랜잭션에서 실행해서 조회 쿼리 비용만 비교한다.
+ * 내장 H2 에서는 쿼리마다 네트워크 왕복이 없어서 이전 방식의 예약자 지연 로딩(페이지당 20번) 비용이 MySQL 보다 작게 나온다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PartnerListBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int SLOTS_PER_DAY = 288;
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Param({"1000", "100000"})
+    public int reservations;
+
+    private ConfigurableApplicationContext context;
+    private ReservationService reservationService;
+    private StoreRepository storeRepository;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager entityManager;
+
+    private Authentication partner;
+    private Long storeId;
+    private LocalDate date;
+    private int offset;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        reservationService = context.getBean(ReservationService.class);
+        storeRepository = context.getBean(StoreRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        entityManager = context.getBean(EntityManager.class);
+
+        partner = BenchmarkContext.authentication(context, BenchmarkData.partner(0));
+
+        Store store = storeRepository.save(Store.builder()
+                .owner(BenchmarkData.partner(0))
+                .name("예약 많은 매장")
+                .address("서울시 벤치구 예약많은길")
+                .contact("02-9999-9999")
+                .open(LocalTime.of(0, 0))
+                .close(LocalTime.of(23, 59))
+                .build());
+        storeId = store.getId();
+
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        List<Member> members = new ArrayList<>(BenchmarkData.USERS);
+
+        for (int i = 0; i < BenchmarkData.USERS; i++) {
+            members.add(memberRepository.findByUserId(BenchmarkData.user(i)).orElseThrow());
+        }
+
+        LocalDate firstDay = LocalDate.now().plusDays(1);
+        ReservationRepository reservationRepository = context.getBean(ReservationRepository.class);
+
+        for (int from = 0; from < reservations; from += CHUNK_SIZE) {
+            List<Reservation> chunk = new ArrayList<>(CHUNK_SIZE);
+
+            for (int i = from; i < Math.min(from + CHUNK_SIZE, reservations); i++) {
+                chunk.add(Reservation.builder()
+                        .member(members.get(i % members.size()))
+                        .store(store)
+                        .reservationDate(firstDay.plusDays(i / SLOTS_PER_DAY).atStartOfDay().plusMinutes(5L * (i % SLOTS_PER_DAY)))
+                        .reservationStatus(ReservationStatus.WAITING)
+                        .build());
+            }
+
+            transactionTemplate.execute(status -> reservationRepository.saveAll(chunk));
+        }
+
+        int days = (reservations + SLOTS_PER_DAY - 1) / SLOTS_PER_DAY;
+        date = firstDay.plusDays(days / 2);
+        offset = days / 2 * SLOTS_PER_DAY;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<ReservationPartnerResponse> dateRangeQuery() {
+        BenchmarkContext.login(partner);
+
+        return transactionTemplate.execute(status ->
+                reservationService.getReservationListForPartner(storeId, date, PageRequest.of(0, PAGE_SIZE)));
+    }
+
+    // 이전 구현: 매장의 예약을 날짜 순으로 페이징(전체 개수 포함)한 뒤 자바에서 날짜로 거름, 예약자는 지연 로딩
+    @Benchmark
+    public Page<ReservationPartnerResponse> pageThenFilter() {
+        return transactionTemplate.execute(status -> {
+            Store store = storeRepository.findById(storeId).orElseThrow();
+            PageRequest pageable = PageRequest.of(0, PAGE_SIZE);
+
+            List<Reservation> content = entityManager
+                    .createQuery("SELECT r FROM Reservation r WHERE r.store = :store ORDER BY r.reservationDate", Reservation.class)
+                    .setParameter("store", store)
+                    .setFirstResult(offset)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList();
+            entityManager.createQuery("SELECT COUNT(r) FROM Reservation r WHERE r.store = :store", Long.class)
+                    .setParameter("store", store)
+                    .getSingleResult();
+
+            List<Reservation> filtered = content.stream()
+                    .filter(reservation -> reservation.getReservationDate().toLocalDate().equals(date))
+                    .collect(Collectors.toList());
+
+            return ReservationPartnerResponse.toDtoList(new PageImpl<>(filtered, pageable, filtered.size()));
+        });
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.reservation.benchmark;
+
+import com.example.reservation.domain.entity.Store;
+import com.example.reservation.repository.StoreRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 트랜잭션에서 매장 1,000개 저장
+ * 테이블에서 미리 할당받은 아이디와 JDBC 배치(batch_size 100)로 저장되는 일괄 등록 경로의 비용이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PersistenceBenchmark {
+
+    private static final int BATCH = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private StoreRepository storeRepository;
+    private TransactionTemplate transactionTemplate;
+
+    private long sequence = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        storeRepository = context.getBean(StoreRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Store> saveAllStores() {
+        List<Store> stores = new ArrayList<>(BATCH);
+
+        for (int i = 0; i < BATCH; i++) {
+            long n = sequence++;
+
+            stores.add(Store.builder()
+                    .owner(BenchmarkData.partner(0))
+                    .name("일괄 등록 " + n)
+                    .address("서울시 배치구 " + n + "번길")
+                    .contact("02-0000-0000")
+                    .open(LocalTime.of(9, 0))
+                    .close(LocalTime.of(22, 0))
+                    .build());
+        }
+
+        return transactionTemplate.execute(status -> storeRepository.saveAll(stores));
+    }
+}
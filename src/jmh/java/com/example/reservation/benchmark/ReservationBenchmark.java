@@ -0,0 +1,85 @@
+package com.example.reservation.benchmark;
+
+import com.example.reservation.domain.model.CursorResponse;
+import com.example.reservation.domain.model.ReservationPartnerResponse;
+import com.example.reservation.domain.model.ReservationRequest;
+import com.example.reservation.domain.model.ReservationResponse;
+import com.example.reservation.service.ReservationService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.Authentication;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 예약 요청, 파트너 예약 내역 조회
+ * 예약 요청은 매번 다른 (매장, 시간)에 예약하므로 중복 예외 없이 저장까지 측정된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReservationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ConfigurableApplicationContext context;
+    private ReservationService reservationService;
+    private BenchmarkData data;
+    private Long hotStoreId;
+
+    private Authentication user;
+    private Authentication partner;
+
+    private final AtomicLong slot = new AtomicLong();
+    private LocalDateTime firstSlot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        reservationService = context.getBean(ReservationService.class);
+        data = context.getBean(BenchmarkData.class);
+        hotStoreId = data.getHotStoreId();
+
+        user = BenchmarkContext.authentication(context, BenchmarkData.user(0));
+        partner = BenchmarkContext.authentication(context, BenchmarkData.partner(0));
+
+        firstSlot = BenchmarkData.HOT_DATE.plusDays(1).atStartOfDay();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ReservationResponse reserveStore() {
+        BenchmarkContext.login(user);
+
+        // 매장을 돌아가며 사용하고, 한 바퀴마다 5분씩 뒤의 시간에 예약
+        long next = slot.getAndIncrement();
+        Long storeId = data.getStoreId((int) (next % BenchmarkData.STORES));
+        LocalDateTime reservationDate = firstSlot.plusMinutes(5 * (next / BenchmarkData.STORES));
+
+        return reservationService.reserveStore(storeId, new ReservationRequest(reservationDate));
+    }
+
+    @Benchmark
+    public Page<ReservationPartnerResponse> partnerListPage() {
+        BenchmarkContext.login(partner);
+
+        return reservationService.getReservationListForPartner(hotStoreId, BenchmarkData.HOT_DATE,
+                PageRequest.of(5, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public CursorResponse<ReservationPartnerResponse> partnerListCursor() {
+        BenchmarkContext.login(partner);
+
+        return reservationService.getReservationListForPartnerAfter(hotStoreId, BenchmarkData.HOT_DATE,
+                null, PAGE_SIZE);
+    }
+}
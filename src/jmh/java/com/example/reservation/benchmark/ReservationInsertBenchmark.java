@@ -0,0 +1,110 @@
+package com.example.reservation.benchmark;
+
+import com.example.reservation.domain.entity.Member;
+import com.example.reservation.domain.entity.Reservation;
+import com.example.reservation.domain.entity.Store;
+import com.example.reservation.repository.MemberRepository;
+import com.example.reservation.type.ReservationStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 reservations 건 저장, 아이디 생성 방식별 비교
+ * POOLED 는 Reservation(테이블에서 미리 할당받은 아이디, JDBC 배치), IDENTITY 는 같은 컬럼의 IdentityReservation(행마다 INSERT 후 아이디 조회)이다.
+ * 1,000건씩 한 트랜잭션에서 저장하고, 저장한 예약은 반복마다 지운다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(jvmArgsAppend = "-Xmx4g")
+public class ReservationInsertBenchmark {
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    // BenchmarkData 의 예약과 겹치지 않는 날짜부터 1분씩 사용
+    private static final LocalDateTime FIRST_SLOT = LocalDate.now().plusYears(10).atStartOfDay();
+
+    public enum IdGeneration {
+        POOLED, IDENTITY
+    }
+
+    @Param({"POOLED", "IDENTITY"})
+    public IdGeneration idGeneration;
+
+    @Param({"1000000"})
+    public int reservations;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager entityManager;
+    private BenchmarkData data;
+    private Long memberId;
+
+    private long slot = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        entityManager = context.getBean(EntityManager.class);
+        data = context.getBean(BenchmarkData.class);
+        memberId = context.getBean(MemberRepository.class).findByUserId(BenchmarkData.user(0)).orElseThrow().getId();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteInserted() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Reservation r WHERE r.reservationDate >= :from")
+                    .setParameter("from", FIRST_SLOT)
+                    .executeUpdate();
+            entityManager.createQuery("DELETE FROM IdentityReservation r")
+                    .executeUpdate();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int insertReservations() {
+        for (int from = 0; from < reservations; from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, reservations);
+            int first = from;
+
+            transactionTemplate.executeWithoutResult(status -> insertChunk(first, to));
+        }
+
+        return reservations;
+    }
+
+    private void insertChunk(int from, int to) {
+        Member member = entityManager.getReference(Member.class, memberId);
+
+        for (int i = from; i < to; i++) {
+            Store store = entityManager.getReference(Store.class, data.getStoreId(i % BenchmarkData.STORES));
+            LocalDateTime reservationDate = FIRST_SLOT.plusMinutes(slot++);
+
+            entityManager.persist(idGeneration == IdGeneration.POOLED
+                    ? Reservation.builder()
+                            .member(member)
+                            .store(store)
+                            .reservationDate(reservationDate)
+                            .reservationStatus(ReservationStatus.WAITING)
+                            .build()
+                    : new IdentityReservation(member, store, reservationDate, ReservationStatus.WAITING));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
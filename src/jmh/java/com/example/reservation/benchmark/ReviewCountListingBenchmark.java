@@ -0,0 +1,109 @@
+package com.example.reservation.benchmark;
+
+import com.example.reservation.domain.entity.Store;
+import com.example.reservation.domain.model.StoreResponse;
+import com.example.reservation.service.StoreService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리뷰 수 순 매장 목록의 페이지별 지연 시간 분포(p99 등), 매장 stores 개와 리뷰 reviews 개
+ * reviewCountColumn 은 현재 구현(인덱스가 있는 review_count 컬럼 순 조회), groupByReviews 는 이전 구현(리뷰 전체를 GROUP BY 후 정렬)이다.
+ * 매장과 리뷰는 SQL 로 한 번에 넣고, 리뷰는 일부 매장에 몰리도록 나눈 뒤 매장의 review_count 를 리뷰 수로 맞춘다.
+ * stores 는 BenchmarkData 의 매장 수(10,000)보다 커야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(jvmArgsAppend = "-Xmx4g")
+public class ReviewCountListingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int CHUNK_SIZE = 500_000;
+
+    // 자동 생성되는 아이디와 겹치지 않도록 큰 값부터 사용
+    private static final long FIRST_STORE_ID = 1_000_000_000L;
+    private static final long FIRST_REVIEW_ID = 2_000_000_000L;
+
+    @Param({"50000"})
+    public int stores;
+
+    @Param({"5000000"})
+    public int reviews;
+
+    @Param({"0", "500"})
+    public int page;
+
+    private ConfigurableApplicationContext context;
+    private StoreService storeService;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager entityManager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        storeService = context.getBean(StoreService.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        entityManager = context.getBean(EntityManager.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Long memberId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM member", Long.class);
+
+        // BenchmarkData 의 매장과 합쳐서 stores 개가 되도록 추가, 리뷰는 추가한 매장에만 작성된다.
+        int extraStores = stores - BenchmarkData.STORES;
+
+        jdbcTemplate.update("INSERT INTO store (id, owner, name, address, contact, identity_key, rating, rating_sum, review_count) " +
+                        "SELECT ? + x, 'partner0', CONCAT('리뷰 매장 ', x), CONCAT('서울시 리뷰구 ', x, '번길'), '02-0000-0000', " +
+                        "CONCAT('review-bench-', x), 0, 0, 0 FROM SYSTEM_RANGE(1, ?) t(x)",
+                FIRST_STORE_ID, extraStores);
+
+        // 세제곱한 난수로 추가한 매장 중 하나를 골라서 앞쪽 매장에 리뷰가 몰리도록 한다.
+        for (int from = 1; from <= reviews; from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE - 1, reviews);
+
+            jdbcTemplate.update("INSERT INTO review (id, member_id, store_id, content, rating, created_at) " +
+                            "SELECT ? + x, ?, ? + 1 + CAST(FLOOR(POWER(RAND(), 3) * ?) AS INT), '리뷰', MOD(x, 5) + 1, CURRENT_TIMESTAMP " +
+                            "FROM SYSTEM_RANGE(?, ?) t(x)",
+                    FIRST_REVIEW_ID, memberId, FIRST_STORE_ID, extraStores, from, to);
+        }
+
+        jdbcTemplate.update("UPDATE store s SET review_count = (SELECT COUNT(*) FROM review r WHERE r.store_id = s.id)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<StoreResponse> reviewCountColumn() {
+        return storeService.getStoresOrderByReviewCount(PageRequest.of(page, PAGE_SIZE));
+    }
+
+    // 이전 구현: 매장과 리뷰를 조인해서 매장별 리뷰 수로 정렬, 전체 매장 수를 함께 조회
+    @Benchmark
+    public Page<StoreResponse> groupByReviews() {
+        return transactionTemplate.execute(status -> {
+            PageRequest pageable = PageRequest.of(page, PAGE_SIZE);
+
+            List<Store> content = entityManager
+                    .createQuery("SELECT s FROM Store s LEFT JOIN s.reviews r GROUP BY s.id ORDER BY COUNT(r) DESC", Store.class)
+                    .setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList();
+            Long total = entityManager.createQuery("SELECT COUNT(s) FROM Store s", Long.class)
+                    .getSingleResult();
+
+            return StoreResponse.toDtoList(new PageImpl<>(content, pageable, total));
+        });
+    }
+}
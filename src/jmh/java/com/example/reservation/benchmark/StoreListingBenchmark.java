@@ -0,0 +1,84 @@
+package com.example.reservation.benchmark;
+
+import com.example.reservation.cache.StoreRankingSnapshot;
+import com.example.reservation.domain.entity.Store;
+import com.example.reservation.domain.model.StoreResponse;
+import com.example.reservation.repository.StoreRepository;
+import com.example.reservation.service.StoreService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매장 목록, 검색, 상세 조회
+ * 이름 순 목록은 매장 순위 스냅샷, 리뷰 수 순 목록은 DB, 검색은 이름 접두어 인덱스, 상세 조회는 캐시에서 처리된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StoreListingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ConfigurableApplicationContext context;
+    private StoreService storeService;
+    private BenchmarkData data;
+
+    private Page<Store> storePage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        storeService = context.getBean(StoreService.class);
+        data = context.getBean(BenchmarkData.class);
+
+        // 스냅샷은 스케줄러가 만들지만 측정 전에 준비되도록 직접 한 번 만든다.
+        context.getBean(StoreRankingSnapshot.class).rebuildIfChanged();
+
+        List<Store> stores = context.getBean(StoreRepository.class)
+                .findAllByIdGreaterThanOrderById(0L, PageRequest.of(0, PAGE_SIZE));
+        storePage = new PageImpl<>(stores, PageRequest.of(0, PAGE_SIZE), BenchmarkData.STORES);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<StoreResponse> toDtoList() {
+        return StoreResponse.toDtoList(storePage);
+    }
+
+    @Benchmark
+    public List<StoreResponse> searchStore() {
+        String prefix = BenchmarkData.NAME_PREFIXES[ThreadLocalRandom.current().nextInt(BenchmarkData.NAME_PREFIXES.length)];
+
+        return storeService.searchStore(prefix, 10);
+    }
+
+    @Benchmark
+    public Page<StoreResponse> storesOrderByName() {
+        return storeService.getStoresOrderByName(randomPage());
+    }
+
+    @Benchmark
+    public Page<StoreResponse> storesOrderByReviewCount() {
+        return storeService.getStoresOrderByReviewCount(randomPage());
+    }
+
+    @Benchmark
+    public StoreResponse storeDetails() {
+        return storeService.getStoreDetails(data.getStoreId(ThreadLocalRandom.current().nextInt(BenchmarkData.STORES)));
+    }
+
+    private static PageRequest randomPage() {
+        return PageRequest.of(ThreadLocalRandom.current().nextInt(BenchmarkData.STORES / PAGE_SIZE), PAGE_SIZE);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.reservation.benchmark;
+
+import com.example.reservation.domain.entity.Review;
+import com.example.reservation.domain.entity.Store;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리뷰 작성 시 매장 평점 반영
+ * 합계와 개수로 계산하는 현재 방식(addRating, changeRating)과
+ * 매장의 모든 리뷰를 다시 더하던 이전 방식(fullScan)을 리뷰 개수별로 비교한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StoreRatingBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int reviewCount;
+
+    private Store store;
+    private List<Review> reviews;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        store = Store.builder().build();
+        reviews = new ArrayList<>(reviewCount);
+
+        for (int i = 0; i < reviewCount; i++) {
+            double rating = 1 + i % 5;
+
+            reviews.add(Review.builder().rating(rating).build());
+            store.addRating(rating);
+        }
+    }
+
+    // 반복 실행해도 합계와 개수가 유지되도록 반영 후 다시 제외
+    @Benchmark
+    public Double addRating() {
+        store.addRating(4.0);
+        store.removeRating(4.0);
+
+        return store.getRating();
+    }
+
+    // 반복 실행해도 합계가 유지되도록 바꾼 뒤 되돌린다.
+    @Benchmark
+    public Double changeRating() {
+        store.changeRating(3.0, 5.0);
+        store.changeRating(5.0, 3.0);
+
+        return store.getRating();
+    }
+
+    @Benchmark
+    public double fullScan() {
+        double totalRating = reviews.stream()
+                .mapToDouble(Review::getRating)
+                .sum();
+
+        return (double) Math.round(totalRating / reviews.size() * 10) / 10;
+    }
+}
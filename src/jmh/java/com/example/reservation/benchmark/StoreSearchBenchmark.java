@@ -0,0 +1,58 @@
+package com.example.reservation.benchmark;
+
+import com.example.reservation.cache.StoreSearchIndex;
+import com.example.reservation.domain.entity.Store;
+import com.example.reservation.domain.model.StoreResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매장 이름 접두사 검색 지연 시간, 매장 수(stores)와 접두사 길이별
+ * 애플리케이션 없이 검색 인덱스만 만들어서 측정하므로 1,000,000개 매장도 메모리에서 바로 적재된다.
+ * 빈 문자열과 "ㅍ", "피"는 짧은 접두사 상위 목록에서, "피자", "피자 1"은 접두사 범위 조회로 처리된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(jvmArgsAppend = "-Xmx4g")
+public class StoreSearchBenchmark {
+
+    private static final int LIMIT = 10;
+
+    @Param({"10000", "100000", "1000000"})
+    public int stores;
+
+    @Param({"", "ㅍ", "피", "피자", "피자 1"})
+    public String prefix;
+
+    private StoreSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 인덱스 적재(warmUp)를 쓰지 않으므로 저장소는 필요 없다.
+        index = new StoreSearchIndex(null);
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < stores; i++) {
+            index.put(Store.builder()
+                    .id(i + 1L)
+                    .owner(BenchmarkData.partner(i % BenchmarkData.PARTNERS))
+                    .name(BenchmarkData.NAME_PREFIXES[i % BenchmarkData.NAME_PREFIXES.length] + " " + i + "호점")
+                    .address("서울시 벤치구 " + i + "번길")
+                    .contact("02-0000-0000")
+                    .open(LocalTime.of(9, 0))
+                    .close(LocalTime.of(22, 0))
+                    .rating(random.nextInt(51) / 10.0)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<StoreResponse> search() {
+        return index.search(prefix, LIMIT);
+    }
+}
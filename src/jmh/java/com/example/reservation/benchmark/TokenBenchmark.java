@@ -0,0 +1,70 @@
+package com.example.reservation.benchmark;
+
+import com.example.reservation.security.JwtAuthenticationFilter;
+import com.example.reservation.security.TokenProvider;
+import com.example.reservation.type.MemberType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행되는 토큰 검증과 인증 정보 생성
+ * verifiedTokenCache 가 false 면 검증된 토큰 캐시를 끄고 매번 서명을 검증하므로, 같은 토큰으로 캐시 유무를 비교할 수 있다.
+ * filter 는 JwtAuthenticationFilter 를 그대로 실행한 요청 하나의 비용이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenBenchmark {
+
+    @Param({"true", "false"})
+    public boolean verifiedTokenCache;
+
+    private ConfigurableApplicationContext context;
+    private TokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("--spring.jwt.verified-token-cache.enabled=" + verifiedTokenCache);
+        tokenProvider = context.getBean(TokenProvider.class);
+        filter = context.getBean(JwtAuthenticationFilter.class);
+
+        token = tokenProvider.generateToken(BenchmarkData.user(0), MemberType.ROLE_USER);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(token);
+    }
+
+    @Benchmark
+    public Authentication filter() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reservation/list");
+        request.addHeader(JwtAuthenticationFilter.TOKEN_HEADER, JwtAuthenticationFilter.TOKEN_PREFIX + token);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
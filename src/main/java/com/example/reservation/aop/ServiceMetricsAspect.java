@@ -0,0 +1,63 @@
+package com.example.reservation.aop;
+
+import com.example.reservation.exception.ReservationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 메서드 실행 시간 측정
+ * service.impl 패키지의 모든 서비스 public 메서드를 service.method 타이머로 기록하고
+ * 서비스, 메서드, 결과(SUCCESS, 실패 시 ErrorCode 이름 또는 예외 클래스 이름)로 구분한다.
+ * 트랜잭션 커밋 시간까지 포함하도록 트랜잭션 프록시보다 바깥에서 실행된다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private static final String SUCCESS = "SUCCESS";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.example.reservation.service.impl.*ServiceImpl.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        String outcome = SUCCESS;
+
+        try {
+            return joinPoint.proceed();
+        } catch (ReservationException e) {
+            outcome = e.getErrorCode().name();
+            throw e;
+        } catch (Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            timer(joinPoint, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 같은 이름과 태그의 타이머는 레지스트리에서 한 번만 만들어진다.
+    private Timer timer(ProceedingJoinPoint joinPoint, String outcome) {
+        return Timer.builder("service.method")
+                .description("서비스 메서드 실행 시간")
+                .tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName().replace("Impl", ""))
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+}
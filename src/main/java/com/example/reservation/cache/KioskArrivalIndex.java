@@ -0,0 +1,172 @@
+package com.example.reservation.cache;
+
+import com.example.reservation.domain.entity.Member;
+import com.example.reservation.domain.entity.Reservation;
+import com.example.reservation.repository.ReservationRepository;
+import com.example.reservation.repository.projection.ReservationArrival;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.example.reservation.type.ReservationStatus.APPROVAL;
+
+/**
+ * 키오스크 방문 예정 목록
+ * 오늘과 내일의 승인된 예약을 예약자 아이디, 이름, 휴대폰 번호와 함께 날짜별로 보관해서 방문 확인 시 DB 를 조회하지 않도록 한다.
+ * 매일 밤 다음 날 예약을 미리 적재하고, 예약 승인, 거절, 변경, 취소 시 함께 갱신된다.
+ * 목록에 없는 예약은 DB 에서 확인한다.
+ *
+ * 목록은 서버마다 따로 보관하고 요청을 처리한 서버의 목록만 갱신되므로 단일 서버 배포를 전제로 한다.
+ * 여러 서버에서는 다른 서버가 거절, 변경, 취소한 예약이 다음 적재 전까지 남아있을 수 있으며,
+ * 이런 방문 확인은 VisitWriteBack 이 저장하지 않고 오류 로그와 kiosk.visit.dropped 메트릭으로 알린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KioskArrivalIndex {
+
+    private final ReservationRepository reservationRepository;
+
+    // 날짜 -> (예약 번호 -> 방문 예정 정보)
+    private final Map<LocalDate, Map<Long, Arrival>> days = new ConcurrentHashMap<>();
+
+    /**
+     * 애플리케이션 시작 시 오늘과 내일의 예약을 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        LocalDate today = LocalDate.now();
+
+        loadDay(today);
+        loadDay(today.plusDays(1));
+    }
+
+    /**
+     * 매일 23시에 다음 날 예약을 적재하고 지난 날짜는 제거
+     */
+    @Scheduled(cron = "${kiosk.arrival-index.preload-cron:0 0 23 * * *}")
+    public void preload() {
+        LocalDate today = LocalDate.now();
+
+        loadDay(today.plusDays(1));
+        days.keySet().removeIf(date -> date.isBefore(today));
+    }
+
+    // 적재 중에 들어온 변경이 유실되지 않도록 변경 메서드와 같은 락 안에서 조회하고 교체한다.
+    private synchronized void loadDay(LocalDate date) {
+        Map<Long, Arrival> arrivals = new ConcurrentHashMap<>();
+
+        reservationRepository.findArrivals(APPROVAL, date.atStartOfDay(), date.plusDays(1).atStartOfDay())
+                .forEach(row -> arrivals.put(row.getReservationId(), Arrival.of(row)));
+
+        days.put(date, arrivals);
+
+        log.info("키오스크 방문 예정 목록 적재 완료 - {} {}건", date, arrivals.size());
+    }
+
+    /**
+     * 지금 방문 확인이 가능한 날짜(오늘, 10분 뒤의 날짜)의 목록에서 예약을 찾는다.
+     */
+    public Optional<Arrival> find(Long reservationId, LocalDateTime now) {
+        Arrival arrival = get(now.toLocalDate(), reservationId);
+
+        if (arrival == null) {
+            arrival = get(now.plusMinutes(10).toLocalDate(), reservationId);
+        }
+
+        return Optional.ofNullable(arrival);
+    }
+
+    private Arrival get(LocalDate date, Long reservationId) {
+        Map<Long, Arrival> arrivals = days.get(date);
+
+        return arrivals == null ? null : arrivals.get(reservationId);
+    }
+
+    /**
+     * 승인된 예약 추가, 적재된 날짜의 예약만 보관한다.
+     * 예약자 정보를 읽으므로 member 가 로딩 가능한 상태에서 호출해야 한다.
+     */
+    public synchronized void put(Reservation reservation) {
+        Map<Long, Arrival> arrivals = days.get(reservation.getReservationDate().toLocalDate());
+
+        if (arrivals != null) {
+            arrivals.put(reservation.getId(), Arrival.of(reservation));
+        }
+    }
+
+    /**
+     * 예약 번호 목록 중 승인된 예약을 DB 에서 다시 조회해서 추가
+     */
+    public synchronized void putAll(Collection<Long> reservationIds) {
+        for (ReservationArrival row : reservationRepository.findArrivalsByIdIn(reservationIds, APPROVAL)) {
+            Map<Long, Arrival> arrivals = days.get(row.getReservationDate().toLocalDate());
+
+            if (arrivals != null) {
+                arrivals.put(row.getReservationId(), Arrival.of(row));
+            }
+        }
+    }
+
+    /**
+     * 승인 취소, 예약 변경, 예약 취소 시 제거
+     */
+    public synchronized void remove(Long reservationId) {
+        days.values().forEach(arrivals -> arrivals.remove(reservationId));
+    }
+
+    public synchronized void removeAll(Collection<Long> reservationIds) {
+        days.values().forEach(arrivals -> arrivals.keySet().removeAll(reservationIds));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Arrival {
+        private final Long reservationId;
+        private final Long storeId;
+        private final LocalDateTime reservationDate;
+        private final String userId;
+        private final String name;
+        private final String phone;
+
+        // 방문 확인이 두 번 처리되지 않도록 한 번만 true 로 바뀐다.
+        @Getter(AccessLevel.NONE)
+        private final AtomicBoolean visited;
+
+        private static Arrival of(ReservationArrival row) {
+            return new Arrival(row.getReservationId(), row.getStoreId(), row.getReservationDate(),
+                    row.getUserId(), row.getName(), row.getPhone(), new AtomicBoolean(row.isVisitYn()));
+        }
+
+        private static Arrival of(Reservation reservation) {
+            Member member = reservation.getMember();
+
+            return new Arrival(reservation.getId(), reservation.getStore().getId(), reservation.getReservationDate(),
+                    member.getUserId(), member.getName(), member.getPhone(), new AtomicBoolean(reservation.isVisitYn()));
+        }
+
+        public boolean isVisited() {
+            return visited.get();
+        }
+
+        /**
+         * 방문 처리에 성공하면 true, 이미 방문 처리되어 있으면 false
+         */
+        public boolean markVisited() {
+            return visited.compareAndSet(false, true);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.reservation.cache;
+
+import com.example.reservation.repository.ReservationRepository;
+import com.example.reservation.repository.projection.ReservationSlot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장별, 날짜별 예약 시간 장부
+ * 하루를 분 단위 비트맵으로 관리해서 DB 조회 없이 같은 시간대 예약 여부를 확인한다.
+ * 최종적인 중복 방지는 DB의 (store_id, reservation_date) 유니크 제약조건이 담당한다.
+ *
+ * 장부는 서버마다 따로 가지고 있고 그 서버의 예약, 변경, 취소로만 갱신되므로,
+ * 다른 서버에서 취소되거나 변경된 시간은 이 장부에 점유된 채로 남아있을 수 있다.
+ * 따라서 비어있는 시간은 그대로 믿지만 점유된 시간은 힌트로만 사용하고 DB 에서 다시 확인한다. (ReservationAdmission)
+ * 단, 이 서버에서 저장 중인 시간은 저장이 끝날 때까지 DB 확인 없이 점유된 것으로 본다.
+ * 지난 날짜는 매일 제거한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationSlotLedger {
+
+    private static final int MINUTES_OF_DAY = 24 * 60;
+
+    private final ReservationRepository reservationRepository;
+
+    private final Map<Long, Map<LocalDate, DaySlots>> ledger = new ConcurrentHashMap<>();
+
+    /**
+     * 애플리케이션 시작 시 오늘 이후의 예약 시간을 장부에 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<ReservationSlot> slots = reservationRepository.findAllSlotsFrom(LocalDate.now().atStartOfDay());
+
+        slots.forEach(slot -> {
+            DaySlots day = getDay(slot.getStoreId(), slot.getReservationDate().toLocalDate());
+
+            synchronized (day) {
+                day.occupied.set(toMinuteOfDay(slot.getReservationDate()));
+            }
+        });
+
+        log.info("예약 장부 적재 완료 - {}건", slots.size());
+    }
+
+    /**
+     * 매일 0시 10분에 오늘 이전 날짜를 제거
+     * 제거와 동시에 같은 매장의 새 날짜가 추가되어 점유가 유실되더라도 유니크 제약조건이 중복을 막는다.
+     */
+    @Scheduled(cron = "${booking.slot-ledger.evict-cron:0 10 0 * * *}")
+    public void evictPastDays() {
+        LocalDate today = LocalDate.now();
+
+        for (Long storeId : ledger.keySet()) {
+            ledger.computeIfPresent(storeId, (id, days) -> {
+                days.keySet().removeIf(date -> date.isBefore(today));
+                return days.isEmpty() ? null : days;
+            });
+        }
+    }
+
+    /**
+     * 비어있는 시간이면 점유하고 true, 이미 예약된 시간이면 false 를 리턴
+     * 점유한 시간은 complete 또는 release 를 호출할 때까지 저장 중으로 표시된다.
+     */
+    public boolean tryOccupy(Long storeId, LocalDateTime reservationDate) {
+        DaySlots day = getDay(storeId, reservationDate.toLocalDate());
+        int minute = toMinuteOfDay(reservationDate);
+
+        synchronized (day) {
+            if (day.occupied.get(minute)) {
+                return false;
+            }
+
+            day.occupied.set(minute);
+            day.saving.set(minute);
+            return true;
+        }
+    }
+
+    /**
+     * 점유한 시간의 저장이 끝나면 저장 중 표시만 해제, 점유는 유지한다.
+     */
+    public void complete(Long storeId, LocalDateTime reservationDate) {
+        DaySlots day = findDay(storeId, reservationDate.toLocalDate());
+
+        if (day == null) {
+            return;
+        }
+
+        synchronized (day) {
+            day.saving.clear(toMinuteOfDay(reservationDate));
+        }
+    }
+
+    /**
+     * 예약 취소, 변경, 저장 실패 시 점유했던 시간을 해제
+     */
+    public void release(Long storeId, LocalDateTime reservationDate) {
+        DaySlots day = findDay(storeId, reservationDate.toLocalDate());
+
+        if (day == null) {
+            return;
+        }
+
+        int minute = toMinuteOfDay(reservationDate);
+
+        synchronized (day) {
+            day.occupied.clear(minute);
+            day.saving.clear(minute);
+        }
+    }
+
+    public boolean isOccupied(Long storeId, LocalDateTime reservationDate) {
+        DaySlots day = findDay(storeId, reservationDate.toLocalDate());
+
+        if (day == null) {
+            return false;
+        }
+
+        synchronized (day) {
+            return day.occupied.get(toMinuteOfDay(reservationDate));
+        }
+    }
+
+    // 이 서버의 다른 요청이 점유하고 아직 저장 중인 시간인지 확인
+    public boolean isSaving(Long storeId, LocalDateTime reservationDate) {
+        DaySlots day = findDay(storeId, reservationDate.toLocalDate());
+
+        if (day == null) {
+            return false;
+        }
+
+        synchronized (day) {
+            return day.saving.get(toMinuteOfDay(reservationDate));
+        }
+    }
+
+    private DaySlots getDay(Long storeId, LocalDate date) {
+        return ledger.computeIfAbsent(storeId, id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(date, d -> new DaySlots());
+    }
+
+    private DaySlots findDay(Long storeId, LocalDate date) {
+        Map<LocalDate, DaySlots> days = ledger.get(storeId);
+
+        return days == null ? null : days.get(date);
+    }
+
+    private static int toMinuteOfDay(LocalDateTime reservationDate) {
+        return reservationDate.getHour() * 60 + reservationDate.getMinute();
+    }
+
+    // 하루의 분 단위 점유 여부와, 그 중 이 서버에서 아직 저장 중인 시간
+    private static final class DaySlots {
+        private final BitSet occupied = new BitSet(MINUTES_OF_DAY);
+        private final BitSet saving = new BitSet(MINUTES_OF_DAY);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.reservation.cache;
+
+import com.example.reservation.domain.model.StoreResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 매장 상세 정보 캐시
+ * 조회가 몰리는 매장의 상세 정보를 W-TinyLFU 정책으로 보관해서 매번 DB 를 조회하지 않도록 한다.
+ * 같은 매장에 대한 동시 조회가 캐시에 없으면 DB 조회는 한 번만 실행되고 나머지는 그 결과를 기다린다.
+ * 매장 정보 수정, 삭제, 평점 변경 시에는 캐시에서 제거한다.
+ */
+@Component
+public class StoreDetailCache {
+
+    private static final long MAXIMUM_SIZE = 10_000;
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(30);
+
+    private final Cache<Long, StoreResponse> cache;
+    private final Timer loadTimer;
+
+    public StoreDetailCache(MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(TIME_TO_LIVE)
+                .recordStats()
+                .build();
+
+        // 히트, 미스, 제거 횟수를 메트릭으로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "storeDetail");
+
+        // DB 조회에 걸린 시간
+        this.loadTimer = Timer.builder("cache.store.detail.load")
+                .description("매장 상세 정보 캐시 미스 시 DB 조회 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 조회해서 저장한 뒤 리턴
+     * loader 에서 발생한 예외는 그대로 전달되고 캐시에는 저장되지 않는다.
+     */
+    public StoreResponse get(Long storeId, Function<Long, StoreResponse> loader) {
+        return cache.get(storeId, id -> loadTimer.record(() -> loader.apply(id)));
+    }
+
+    public void invalidate(Long storeId) {
+        cache.invalidate(storeId);
+    }
+
+    public void invalidateAll(Iterable<Long> storeIds) {
+        cache.invalidateAll(storeIds);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.reservation.cache;
+
+import com.example.reservation.domain.model.StoreResponse;
+import com.example.reservation.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매장 목록 정렬 스냅샷
+ * 이름 순, 평점 순으로 정렬된 매장 배열을 미리 만들어두고 목록 조회 시 배열의 일부를 그대로 잘라서 리턴한다.
+ * 매장 검색 인덱스가 변경되면 짧은 지연 후 새 배열을 만들어 한 번에 교체하므로, 조회 중인 요청은 항상 완전한 스냅샷을 본다.
+ *
+ * 매장 내용은 검색 인덱스에서 가져오고, 검색 인덱스는 다른 서버의 변경을 주기적으로 동기화한다(StoreSearchIndex.sync).
+ * 인덱스가 바뀌지 않아도 RESYNC_INTERVAL_MS 마다 다시 만들어서 인덱스에 늦게 반영된 변경도 스냅샷에 들어가도록 한다.
+ *
+ * 이름 순서는 DB 콜레이션을 따라야 하므로 Java 에서 문자열을 비교하지 않고 DB 에서 이름 순 아이디를 조회해서 사용한다.
+ * 따라서 DB 조회, 커서 기반 조회(findPageOrderByName)와 같은 순서가 된다.
+ * 평점 순서는 DB 조회와 같은 (평점 내림차순, 아이디 내림차순)이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreRankingSnapshot {
+
+    private static final long REBUILD_DELAY_MS = 1000;
+    private static final long RESYNC_INTERVAL_MS = 60_000;
+
+    // 평점이 높은 순, 평점이 같으면 최근 등록된 매장 순
+    private static final Comparator<StoreSearchIndex.Entry> BY_RATING =
+            Comparator.comparingDouble(StoreSearchIndex.Entry::getRating).reversed()
+                    .thenComparing(StoreSearchIndex.Entry::getId, Comparator.reverseOrder());
+
+    private final StoreSearchIndex storeSearchIndex;
+    private final StoreRepository storeRepository;
+
+    private volatile Snapshot snapshot;
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 검색 인덱스가 마지막 스냅샷 이후 변경되었거나 RESYNC_INTERVAL_MS 가 지났으면 다시 만든다.
+     * 짧은 시간 동안의 여러 변경은 한 번의 재생성으로 합쳐진다.
+     */
+    @Scheduled(fixedDelay = REBUILD_DELAY_MS)
+    public void rebuildIfChanged() {
+        if (!storeSearchIndex.isReady()) {
+            return;
+        }
+
+        Snapshot current = snapshot;
+        long version = storeSearchIndex.getVersion();
+        long now = System.currentTimeMillis();
+
+        if (current != null && current.version == version && now - current.builtAt < RESYNC_INTERVAL_MS) {
+            return;
+        }
+
+        // 정렬 도중 인덱스가 바뀌어도 읽기 전 버전을 기록하므로 다음 주기에 다시 만들어진다.
+        List<StoreSearchIndex.Entry> entries = new ArrayList<>(storeSearchIndex.entries());
+
+        snapshot = new Snapshot(version, now, orderByName(entries), sort(entries, BY_RATING));
+
+        log.debug("매장 목록 스냅샷 갱신 - {}개 매장", entries.size());
+    }
+
+    public Page<StoreResponse> getPageOrderByName(Pageable pageable) {
+        return slice(snapshot.byName, pageable);
+    }
+
+    public Page<StoreResponse> getPageOrderByRating(Pageable pageable) {
+        return slice(snapshot.byRating, pageable);
+    }
+
+    // DB 의 이름 순 아이디 순서대로 배치, 아직 인덱스에 없거나 DB 에서 삭제된 매장은 다음 재생성 때 반영된다.
+    private List<StoreResponse> orderByName(Collection<StoreSearchIndex.Entry> entries) {
+        Map<Long, StoreResponse> stores = new HashMap<>(entries.size() * 2);
+
+        for (StoreSearchIndex.Entry entry : entries) {
+            stores.put(entry.getId(), entry.getStore());
+        }
+
+        List<Long> ids = storeRepository.findIdsOrderByName();
+        List<StoreResponse> byName = new ArrayList<>(ids.size());
+
+        for (Long id : ids) {
+            StoreResponse store = stores.get(id);
+
+            if (store != null) {
+                byName.add(store);
+            }
+        }
+
+        return Collections.unmodifiableList(byName);
+    }
+
+    private static List<StoreResponse> sort(List<StoreSearchIndex.Entry> entries,
+                                            Comparator<StoreSearchIndex.Entry> comparator) {
+        StoreSearchIndex.Entry[] sorted = entries.toArray(new StoreSearchIndex.Entry[0]);
+        Arrays.sort(sorted, comparator);
+
+        StoreResponse[] stores = new StoreResponse[sorted.length];
+
+        for (int i = 0; i < sorted.length; i++) {
+            stores[i] = sorted[i].getStore();
+        }
+
+        return Collections.unmodifiableList(Arrays.asList(stores));
+    }
+
+    // 배열을 복사하지 않고 요청한 페이지 범위만 감싸서 리턴
+    private static Page<StoreResponse> slice(List<StoreResponse> stores, Pageable pageable) {
+        int total = stores.size();
+        int from = (int) Math.min(pageable.getOffset(), total);
+        int to = Math.min(from + pageable.getPageSize(), total);
+
+        return new PageImpl<>(stores.subList(from, to), pageable, total);
+    }
+
+    private static class Snapshot {
+        private final long version;
+        private final long builtAt;
+        private final List<StoreResponse> byName;
+        private final List<StoreResponse> byRating;
+
+        private Snapshot(long version, long builtAt, List<StoreResponse> byName, List<StoreResponse> byRating) {
+            this.version = version;
+            this.builtAt = builtAt;
+            this.byName = byName;
+            this.byRating = byRating;
+        }
+    }
+}
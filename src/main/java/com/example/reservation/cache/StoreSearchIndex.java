@@ -0,0 +1,390 @@
+package com.example.reservation.cache;
+
+import com.example.reservation.domain.entity.Store;
+import com.example.reservation.domain.model.StoreResponse;
+import com.example.reservation.repository.StoreRepository;
+import com.example.reservation.utils.HangulUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 매장 이름 접두사 검색 인덱스
+ * 자모 단위로 분리한 매장 이름을 정렬된 맵에 보관하고, 접두사 범위를 조회해서 평점이 높은 순으로 상위 k개를 리턴한다.
+ * 매장 등록, 수정, 삭제, 평점 변경 시 함께 갱신된다.
+ *
+ * 요청을 처리한 서버의 인덱스만 바로 갱신되므로, 다른 서버의 변경은 주기적인 동기화로 반영한다.
+ * 마지막 동기화 이후 수정 시각(updated_at)이 바뀐 매장을 다시 적재하고, DB 에 없는 매장은 제거한다.
+ * 수정 시각은 각 서버의 시계로 기록되고 늦게 커밋될 수 있으므로 SYNC_OVERLAP 만큼 앞선 시각부터 조회한다.
+ *
+ * 빈 문자열이나 자모 한두 개("ㄱ", "가")처럼 짧은 접두사는 범위가 전체 매장에 가까우므로,
+ * 짧은 접두사마다 상위 SHORT_PREFIX_CAPACITY 개를 미리 정렬해 두고 범위를 조회하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreSearchIndex {
+
+    private static final int WARM_UP_BATCH_SIZE = 1000;
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    // 서버 간 시계 차이와 커밋 지연을 감안해서 동기화 시 다시 조회하는 구간
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    // 상위 목록을 미리 만들어 두는 접두사 길이(자모 수)와 목록 크기, 목록 크기는 최대 검색 개수(50)의 두 배
+    private static final int SHORT_PREFIX_LENGTH = 2;
+    private static final int SHORT_PREFIX_CAPACITY = 100;
+
+    // 평점이 높은 순, 평점이 같으면 이름 순
+    private static final Comparator<Entry> RANKING = Comparator.comparingDouble(Entry::getRating).reversed()
+            .thenComparing(entry -> entry.getStore().getName());
+
+    private final StoreRepository storeRepository;
+
+    // (자모 분리된 이름 + 구분자 + 매장 번호) -> 매장
+    private final NavigableMap<String, Entry> index = new ConcurrentSkipListMap<>();
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    // 짧은 접두사 -> 평점이 높은 순 상위 목록
+    private final Map<String, TopList> shortPrefixes = new ConcurrentHashMap<>();
+
+    // 인덱스가 변경될 때마다 증가, 매장 순위 스냅샷 재생성 여부 판단에 사용
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile boolean ready = false;
+
+    // 마지막 적재 또는 동기화를 시작한 시각
+    private volatile LocalDateTime syncedAt;
+
+    /**
+     * 애플리케이션 시작 시 모든 매장을 아이디 순으로 나눠서 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long lastId = 0L;
+
+        while (true) {
+            List<Store> stores = storeRepository.findAllByIdGreaterThanOrderById(lastId, PageRequest.of(0, WARM_UP_BATCH_SIZE));
+
+            if (stores.isEmpty()) {
+                break;
+            }
+
+            stores.forEach(this::put);
+            lastId = stores.get(stores.size() - 1).getId();
+        }
+
+        syncedAt = startedAt;
+        ready = true;
+        log.info("매장 검색 인덱스 적재 완료 - {}개 매장", entries.size());
+    }
+
+    /**
+     * 다른 서버에서 등록, 수정, 삭제된 매장을 반영
+     * 이미 같은 내용으로 적재된 매장은 건너뛰므로 변경이 없으면 인덱스 버전도 바뀌지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${store.search-index.sync-delay-ms:30000}")
+    public void sync() {
+        if (!ready) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = syncedAt.minus(SYNC_OVERLAP);
+        long lastId = 0L;
+        int updated = 0;
+
+        while (true) {
+            List<Store> stores = storeRepository.findUpdatedSinceAfter(since, lastId, PageRequest.of(0, WARM_UP_BATCH_SIZE));
+
+            if (stores.isEmpty()) {
+                break;
+            }
+
+            for (Store store : stores) {
+                if (putIfChanged(store)) {
+                    updated++;
+                }
+            }
+
+            lastId = stores.get(stores.size() - 1).getId();
+        }
+
+        int removed = removeDeleted(startedAt.minus(SYNC_OVERLAP));
+        syncedAt = startedAt;
+
+        if (updated > 0 || removed > 0) {
+            log.info("매장 검색 인덱스 동기화 - {}개 갱신, {}개 제거", updated, removed);
+        }
+    }
+
+    // 적재된 내용과 다른 경우만 교체, 이 서버의 변경을 이전 상태로 덮더라도 SYNC_OVERLAP 안에서 다시 조회되어 바로잡힌다.
+    private synchronized boolean putIfChanged(Store store) {
+        Entry previous = entries.get(store.getId());
+
+        if (previous != null && previous.getStore().equals(StoreResponse.of(store))) {
+            return false;
+        }
+
+        put(store);
+        return true;
+    }
+
+    // DB 에 없는 매장을 제거, 조회 이후에 등록된 매장이 지워지지 않도록 before 이전에 수정된 매장만 대상으로 한다.
+    private int removeDeleted(LocalDateTime before) {
+        Set<Long> storeIds = new HashSet<>();
+        long lastId = 0L;
+
+        while (true) {
+            List<Long> ids = storeRepository.findIdsAfter(lastId, PageRequest.of(0, WARM_UP_BATCH_SIZE));
+
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            storeIds.addAll(ids);
+            lastId = ids.get(ids.size() - 1);
+        }
+
+        int removed = 0;
+
+        for (Entry entry : entries.values()) {
+            boolean old = entry.getUpdatedAt() == null || entry.getUpdatedAt().isBefore(before);
+
+            if (old && !storeIds.contains(entry.getId())) {
+                remove(entry.getId());
+                removed++;
+            }
+        }
+
+        return removed;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public synchronized void put(Store store) {
+        Entry entry = new Entry(store.getId(),
+                HangulUtils.decompose(store.getName()) + KEY_SEPARATOR + store.getId(),
+                store.getRating(),
+                store.getUpdatedAt(),
+                StoreResponse.of(store));
+
+        Entry previous = entries.put(store.getId(), entry);
+
+        if (previous != null) {
+            index.remove(previous.getKey());
+            removeFromShortPrefixes(previous);
+        }
+
+        index.put(entry.getKey(), entry);
+        addToShortPrefixes(entry);
+        version.incrementAndGet();
+    }
+
+    public synchronized void remove(Long storeId) {
+        Entry previous = entries.remove(storeId);
+
+        if (previous != null) {
+            index.remove(previous.getKey());
+            removeFromShortPrefixes(previous);
+            version.incrementAndGet();
+        }
+    }
+
+    private void addToShortPrefixes(Entry entry) {
+        for (String prefix : shortPrefixesOf(entry)) {
+            shortPrefixes.put(prefix, shortPrefixes.getOrDefault(prefix, TopList.EMPTY).add(entry));
+        }
+    }
+
+    private void removeFromShortPrefixes(Entry entry) {
+        for (String prefix : shortPrefixesOf(entry)) {
+            TopList topList = shortPrefixes.get(prefix);
+
+            if (topList != null) {
+                shortPrefixes.put(prefix, topList.remove(entry));
+            }
+        }
+    }
+
+    // 빈 문자열부터 SHORT_PREFIX_LENGTH 자모까지의 이름 접두사
+    private static List<String> shortPrefixesOf(Entry entry) {
+        String key = entry.getKey();
+        int length = Math.min(key.indexOf(KEY_SEPARATOR), SHORT_PREFIX_LENGTH);
+        List<String> prefixes = new ArrayList<>(length + 1);
+
+        for (int i = 0; i <= length; i++) {
+            prefixes.add(key.substring(0, i));
+        }
+
+        return prefixes;
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * 인덱스에 적재된 모든 매장
+     */
+    public Collection<Entry> entries() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    /**
+     * 이름이 접두사로 시작하는 매장 중 평점이 높은 순으로 최대 limit 개를 리턴
+     */
+    public List<StoreResponse> search(String prefix, int limit) {
+        String key = HangulUtils.decompose(prefix);
+
+        List<Entry> result = key.length() <= SHORT_PREFIX_LENGTH && limit <= SHORT_PREFIX_CAPACITY
+                ? searchShortPrefix(key, limit)
+                : topK(candidates(key), limit);
+
+        return result.stream().map(Entry::getStore).collect(Collectors.toList());
+    }
+
+    // 미리 정렬해 둔 상위 목록에서 앞의 limit 개, 삭제 등으로 목록이 모자라면 범위를 조회해서 다시 만든다.
+    private List<Entry> searchShortPrefix(String key, int limit) {
+        TopList topList = shortPrefixes.get(key);
+
+        if (topList == null) {
+            return Collections.emptyList();
+        }
+
+        if (topList.isShort(limit)) {
+            topList = rebuildShortPrefix(key, limit);
+        }
+
+        List<Entry> topEntries = topList.getEntries();
+
+        return topEntries.subList(0, Math.min(limit, topEntries.size()));
+    }
+
+    private synchronized TopList rebuildShortPrefix(String key, int limit) {
+        TopList topList = shortPrefixes.get(key);
+
+        if (!topList.isShort(limit)) {
+            return topList;
+        }
+
+        Collection<Entry> candidates = candidates(key);
+        List<Entry> topEntries = topK(candidates, SHORT_PREFIX_CAPACITY);
+
+        topList = new TopList(topEntries, topEntries.size() < SHORT_PREFIX_CAPACITY);
+        shortPrefixes.put(key, topList);
+
+        return topList;
+    }
+
+    private Collection<Entry> candidates(String key) {
+        return key.isEmpty()
+                ? index.values()
+                : index.subMap(key, true, key + Character.MAX_VALUE, false).values();
+    }
+
+    // 크기가 k 인 최소 힙으로 상위 k개만 유지해서 평점이 높은 순으로 리턴
+    private static List<Entry> topK(Collection<Entry> candidates, int k) {
+        PriorityQueue<Entry> topK = new PriorityQueue<>(k + 1, RANKING.reversed());
+
+        for (Entry candidate : candidates) {
+            topK.offer(candidate);
+
+            if (topK.size() > k) {
+                topK.poll();
+            }
+        }
+
+        List<Entry> result = new ArrayList<>(topK);
+        result.sort(RANKING);
+
+        return result;
+    }
+
+    /**
+     * 접두사 범위의 평점 상위 목록
+     * 항상 범위의 상위 entries.size() 개와 정확히 일치하도록 유지하고, 변경 시 새 목록을 만들어 교체하므로 검색은 락 없이 읽는다.
+     * complete 는 범위의 모든 매장이 목록에 들어있는지 여부
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class TopList {
+        private static final TopList EMPTY = new TopList(Collections.emptyList(), true);
+
+        private final List<Entry> entries;
+        private final boolean complete;
+
+        // 목록에 없는 매장 중 더 높은 순위가 있을 수 있어서 limit 개를 채울 수 없는 경우
+        private boolean isShort(int limit) {
+            return !complete && entries.size() < limit;
+        }
+
+        private TopList add(Entry entry) {
+            int position = Collections.binarySearch(entries, entry, RANKING);
+            position = position < 0 ? -position - 1 : position;
+
+            // 목록 밖의 매장보다 순위가 높은지 알 수 없으므로 추가하지 않음
+            if (!complete && position == entries.size()) {
+                return this;
+            }
+
+            List<Entry> added = new ArrayList<>(entries.size() + 1);
+            added.addAll(entries.subList(0, position));
+            added.add(entry);
+            added.addAll(entries.subList(position, entries.size()));
+
+            if (added.size() > SHORT_PREFIX_CAPACITY) {
+                added.remove(added.size() - 1);
+                return new TopList(added, false);
+            }
+
+            return new TopList(added, complete);
+        }
+
+        private TopList remove(Entry entry) {
+            if (!entries.contains(entry)) {
+                return this;
+            }
+
+            List<Entry> removed = new ArrayList<>(entries);
+            removed.remove(entry);
+
+            return new TopList(removed, complete);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry {
+        private final Long id;
+        private final String key;
+        private final double rating;
+        private final LocalDateTime updatedAt;
+        private final StoreResponse store;
+    }
+}
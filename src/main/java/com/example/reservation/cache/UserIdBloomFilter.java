@@ -0,0 +1,250 @@
+package com.example.reservation.cache;
+
+import com.example.reservation.repository.MemberRepository;
+import com.example.reservation.repository.projection.MemberUserId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용자 아이디 블룸 필터
+ * 회원가입 시 아이디 중복 확인 전에 조회해서, 확실히 없는 아이디는 DB 조회를 생략한다.
+ * 있을 수도 있다고 나오면 DB 에서 확인하고, 최종 중복 판단은 user_id 유니크 제약이 한다.
+ *
+ * 애플리케이션 시작 시 모든 회원 아이디를 나눠서 읽어 만들고, 회원가입 시 추가된다.
+ * 블룸 필터에서는 값을 지울 수 없으므로 탈퇴한 아이디는 매일 새로 만들 때 빠진다. 그 전까지는 DB 조회로 확인된다.
+ * 예상 오탐률(member.userid.filter.fpp)과 메모리 사용량(member.userid.filter.bytes)을 메트릭으로 노출한다.
+ */
+@Slf4j
+@Component
+public class UserIdBloomFilter {
+
+    private static final int WARM_UP_BATCH_SIZE = 1000;
+
+    private final MemberRepository memberRepository;
+    private final long expectedInsertions;
+    private final double targetFpp;
+
+    private final Counter definiteMisses;
+    private final Counter possibleHits;
+
+    private volatile Bits bits;
+
+    // 다시 만드는 동안 추가된 아이디도 새 필터에 들어가도록 함께 기록
+    private volatile Bits rebuilding;
+
+    private volatile boolean ready = false;
+
+    public UserIdBloomFilter(MemberRepository memberRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${member.user-id-filter.expected-insertions:1000000}") long expectedInsertions,
+                             @Value("${member.user-id-filter.fpp:0.01}") double targetFpp) {
+        this.memberRepository = memberRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.targetFpp = targetFpp;
+        this.bits = Bits.create(expectedInsertions, targetFpp);
+
+        Gauge.builder("member.userid.filter.fpp", this, filter -> filter.bits.expectedFpp())
+                .description("사용자 아이디 필터의 현재 예상 오탐률")
+                .register(meterRegistry);
+        Gauge.builder("member.userid.filter.bytes", this, filter -> filter.bits.sizeInBytes())
+                .description("사용자 아이디 필터 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        this.definiteMisses = checks(meterRegistry, "definite_miss");
+        this.possibleHits = checks(meterRegistry, "possible_hit");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        load();
+        ready = true;
+    }
+
+    /**
+     * 매일 새로 만들어서 탈퇴한 아이디를 제거
+     */
+    @Scheduled(cron = "${member.user-id-filter.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        if (!ready) {
+            return;
+        }
+
+        load();
+    }
+
+    // 새 필터를 먼저 교체한 뒤 추가 기록을 멈춘다. 반대 순서면 그 사이에 추가된 아이디가 새 필터에 빠진다.
+    private void load() {
+        Bits loading = Bits.create(expectedInsertions, targetFpp);
+        rebuilding = loading;
+
+        try {
+            long lastId = 0L;
+            long count = 0;
+
+            while (true) {
+                List<MemberUserId> members = memberRepository.findUserIdsAfter(lastId, PageRequest.of(0, WARM_UP_BATCH_SIZE));
+
+                if (members.isEmpty()) {
+                    break;
+                }
+
+                members.forEach(member -> loading.put(member.getUserId()));
+                lastId = members.get(members.size() - 1).getId();
+                count += members.size();
+            }
+
+            bits = loading;
+
+            log.info("사용자 아이디 필터 적재 완료 - {}개 아이디, {}KB, 예상 오탐률 {}",
+                    count, loading.sizeInBytes() / 1024, String.format("%.4f", loading.expectedFpp()));
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    /**
+     * 이미 사용 중일 수도 있으면 true, 확실히 사용하지 않는 아이디면 false
+     * 적재가 끝나기 전에는 항상 true
+     */
+    public boolean mightContain(String userId) {
+        boolean result = !ready || bits.mightContain(userId);
+
+        (result ? possibleHits : definiteMisses).increment();
+
+        return result;
+    }
+
+    public void put(String userId) {
+        Bits current = bits;
+        current.put(userId);
+
+        Bits loading = rebuilding;
+        if (loading != null) {
+            loading.put(userId);
+        }
+
+        // 위에서 읽은 뒤 새 필터로 교체되고 추가 기록이 끝났다면 새 필터에도 추가
+        Bits latest = bits;
+        if (latest != current) {
+            latest.put(userId);
+        }
+    }
+
+    private static Counter checks(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("member.userid.filter.checks")
+                .description("사용자 아이디 필터 조회 횟수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비트 배열과 해시 함수 개수
+     * 비트는 AtomicLongArray 에 CAS 로 설정하므로 락 없이 동시에 추가, 조회할 수 있다.
+     */
+    private static class Bits {
+        private final AtomicLongArray words;
+        private final long bitSize;
+        private final int hashCount;
+
+        private Bits(long bitSize, int hashCount) {
+            this.words = new AtomicLongArray((int) ((bitSize + 63) / 64));
+            this.bitSize = bitSize;
+            this.hashCount = hashCount;
+        }
+
+        // 예상 개수 n, 오탐률 p 일 때 비트 수 m = -n ln p / (ln 2)^2, 해시 함수 개수 k = m / n ln 2
+        private static Bits create(long expectedInsertions, double fpp) {
+            long n = Math.max(expectedInsertions, 1);
+            long bitSize = Math.max(64, (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+            int hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+
+            return new Bits(bitSize, hashCount);
+        }
+
+        private void put(String value) {
+            long hash1 = hash(value);
+            long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(hash1 + i * hash2, bitSize);
+                setBit(index);
+            }
+        }
+
+        private boolean mightContain(String value) {
+            long hash1 = hash(value);
+            long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(hash1 + i * hash2, bitSize);
+
+                if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private void setBit(long index) {
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+
+            do {
+                current = words.get(word);
+
+                if ((current & mask) != 0) {
+                    return;
+                }
+            } while (!words.compareAndSet(word, current, current | mask));
+        }
+
+        // 현재 설정된 비트 비율로 계산한 오탐률 (설정된 비율)^k
+        private double expectedFpp() {
+            long setBits = 0;
+
+            for (int i = 0; i < words.length(); i++) {
+                setBits += Long.bitCount(words.get(i));
+            }
+
+            return Math.pow((double) setBits / bitSize, hashCount);
+        }
+
+        private long sizeInBytes() {
+            return words.length() * 8L;
+        }
+
+        // UTF-8 바이트의 64비트 FNV-1a 해시를 한 번 더 섞는다.
+        private static long hash(String value) {
+            long hash = 0xCBF29CE484222325L;
+
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b;
+                hash *= 0x100000001B3L;
+            }
+
+            return mix(hash);
+        }
+
+        // SplitMix64 의 마지막 단계
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
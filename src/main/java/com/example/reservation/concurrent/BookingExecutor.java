@@ -0,0 +1,72 @@
+package com.example.reservation.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 예약 처리 전용 스레드 풀
+ * 예약 요청을 톰캣 워커 스레드가 아닌 크기가 제한된 풀에서 처리해서, DB 가 느려져도 예약 요청이 조회 요청의 스레드와 커넥션을 모두 차지하지 않도록 한다.
+ * 대기열이 가득 차면 RejectedExecutionException 이 바로 발생하고 503 응답으로 변환된다.
+ * 대기열 길이(executor.queued)와 대기 시간(executor.idle)은 name=booking 태그로 노출된다.
+ */
+@Slf4j
+@Component
+public class BookingExecutor {
+
+    private final ThreadPoolExecutor threadPool;
+    private final ExecutorService executor;
+
+    public BookingExecutor(@Value("${booking.executor.pool-size:8}") int poolSize,
+                           @Value("${booking.executor.queue-capacity:200}") int queueCapacity,
+                           MeterRegistry meterRegistry) {
+        this.threadPool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new BookingThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+
+        // 요청한 사용자의 인증 정보를 작업 스레드로 전달
+        this.executor = new DelegatingSecurityContextExecutorService(
+                ExecutorServiceMetrics.monitor(meterRegistry, threadPool, "booking"));
+    }
+
+    /**
+     * 예약 처리 작업을 대기열에 넣고 결과를 CompletableFuture 로 리턴
+     * 대기열이 가득 찬 경우 RejectedExecutionException 발생
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        threadPool.shutdown();
+
+        if (!threadPool.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("예약 처리 스레드 풀 종료 대기 시간 초과 - 남은 작업 {}건", threadPool.getQueue().size());
+            threadPool.shutdownNow();
+        }
+    }
+
+    private static class BookingThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "booking-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
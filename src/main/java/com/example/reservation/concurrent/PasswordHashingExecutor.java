@@ -0,0 +1,128 @@
+package com.example.reservation.concurrent;
+
+import com.example.reservation.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 암호화, 비교 전용 스레드 풀
+ * BCrypt 계산을 CPU 코어 수만큼의 스레드에서만 실행해서, 로그인이 몰려도 예약, 조회 요청이 CPU 를 얻을 수 있도록 한다.
+ * 요청 스레드는 결과를 기다리기만 하고, 대기열이 가득 차면 바로 PasswordHashingRejectedException 이 발생해서 503 응답으로 변환된다.
+ * 대기 시간을 포함한 처리 시간은 auth.password.hashing(operation=encode, matches)으로,
+ * 대기열 길이와 실행 시간은 name=passwordHashing 태그의 executor 메트릭으로 노출된다.
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor threadPool;
+    private final ExecutorService executor;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder,
+                                   @Value("${auth.hashing.pool-size:0}") int poolSize,
+                                   @Value("${auth.hashing.queue-capacity:64}") int queueCapacity,
+                                   MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+
+        // 0 이면 CPU 코어 수
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        this.threadPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, "passwordHashing");
+
+        this.encodeTimer = timer(meterRegistry, "encode");
+        this.matchesTimer = timer(meterRegistry, "matches");
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 비밀번호가 현재 설정보다 약한 강도로 암호화되었는지 확인, 계산이 없으므로 요청 스레드에서 처리
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Timer timer, Supplier<T> task) {
+        long start = System.nanoTime();
+        Future<T> future;
+
+        try {
+            future = executor.submit(task::get);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingRejectedException(e);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 대기 중 인터럽트 발생", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.password.hashing")
+                .description("비밀번호 처리 대기 및 실행 시간")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        threadPool.shutdown();
+
+        if (!threadPool.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("비밀번호 처리 스레드 풀 종료 대기 시간 초과 - 남은 작업 {}건", threadPool.getQueue().size());
+            threadPool.shutdownNow();
+        }
+    }
+
+    private static class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.reservation.concurrent;
+
+import com.example.reservation.cache.ReservationSlotLedger;
+import com.example.reservation.exception.ReservationException;
+import com.example.reservation.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Supplier;
+
+import static com.example.reservation.exception.ErrorCode.ALREADY_RESERVED_TIME;
+
+/**
+ * 예약 접수 창구
+ * 예약 장부에서 (매장 번호, 예약 시간)을 점유한 요청만 저장을 진행한다.
+ * 점유 확인은 장부의 날짜별 락 안에서만 이루어지고 DB 저장은 락 밖에서 실행되므로, 저장 중인 예약이 다른 예약을 막지 않는다.
+ *
+ * 이 서버에서 저장 중인 시간이면 DB 를 확인하지 않고 바로 거절하므로, 같은 서버에서는 한 시간에 하나의 요청만 저장을 시도한다.
+ * 저장이 끝난 점유 시간은 다른 서버에서 취소, 변경되어 비어있을 수 있으므로 바로 거절하지 않고 DB 에서 확인한다.
+ * DB 에도 예약이 있으면 거절하고, 없으면 저장을 시도해서 유니크 제약조건에 최종 판단을 맡긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationAdmission {
+
+    private final ReservationSlotLedger slotLedger;
+    private final ReservationRepository reservationRepository;
+
+    /**
+     * 예약 시간을 점유한 뒤 저장 로직을 실행한다.
+     * 이미 예약된 시간이면 예외가 발생하고, 저장이 다른 이유로 실패하면 이 요청이 점유한 시간을 해제한다.
+     */
+    public <T> T admit(Long storeId, LocalDateTime reservationDate, Supplier<T> booking) {
+        boolean occupied = slotLedger.tryOccupy(storeId, reservationDate);
+
+        if (!occupied && (slotLedger.isSaving(storeId, reservationDate) || isReserved(storeId, reservationDate))) {
+            throw new ReservationException(ALREADY_RESERVED_TIME);
+        }
+
+        try {
+            T result = booking.get();
+            complete(occupied, storeId, reservationDate);
+
+            return result;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버나 저장 중인 다른 요청이 먼저 예약한 시간이라면 유니크 제약조건에 의해 저장 실패
+            // DB 에 예약이 있는 시간이므로 장부의 점유는 그대로 둔다.
+            complete(occupied, storeId, reservationDate);
+            throw new ReservationException(ALREADY_RESERVED_TIME);
+        } catch (RuntimeException e) {
+            release(occupied, storeId, reservationDate);
+            throw e;
+        }
+    }
+
+    private boolean isReserved(Long storeId, LocalDateTime reservationDate) {
+        LocalDateTime slot = reservationDate.truncatedTo(ChronoUnit.MINUTES);
+
+        return reservationRepository.existsSlot(storeId, slot, slot.plusMinutes(1));
+    }
+
+    private void complete(boolean occupied, Long storeId, LocalDateTime reservationDate) {
+        if (occupied) {
+            slotLedger.complete(storeId, reservationDate);
+        }
+    }
+
+    // 장부의 점유는 점유한 요청만 해제한다. 다른 요청이 점유한 시간을 지우지 않도록 한다.
+    private void release(boolean occupied, Long storeId, LocalDateTime reservationDate) {
+        if (occupied) {
+            slotLedger.release(storeId, reservationDate);
+        }
+    }
+}
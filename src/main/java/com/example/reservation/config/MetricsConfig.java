@@ -0,0 +1,59 @@
+package com.example.reservation.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.JvmGcMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
+import io.micrometer.core.instrument.binder.system.ProcessorMetrics;
+import io.micrometer.core.instrument.binder.system.UptimeMetrics;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * 액추에이터 없이 사용하므로 JVM, 프로세스 메트릭은 레지스트리 생성 시 직접 등록
+     */
+    @Bean(destroyMethod = "close")
+    public PrometheusMeterRegistry prometheusMeterRegistry() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+
+        new JvmMemoryMetrics().bindTo(registry);
+        new JvmGcMetrics().bindTo(registry);
+        new JvmThreadMetrics().bindTo(registry);
+        new ProcessorMetrics().bindTo(registry);
+        new UptimeMetrics().bindTo(registry);
+
+        return registry;
+    }
+
+    /**
+     * 커넥션 풀 메트릭(hikaricp.connections.active, idle, pending, acquire 등) 등록
+     * 풀이 시작된 뒤에는 설정할 수 없으므로 데이터소스 빈이 만들어진 직후, 첫 커넥션을 얻기 전에 설정한다.
+     */
+    @Bean
+    public static BeanPostProcessor hikariMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource) {
+                    HikariDataSource dataSource = (HikariDataSource) bean;
+
+                    if (dataSource.getMetricRegistry() == null && dataSource.getMetricsTrackerFactory() == null) {
+                        dataSource.setMetricsTrackerFactory(
+                                new MicrometerMetricsTrackerFactory(meterRegistry.getObject()));
+                    }
+                }
+
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.reservation.controller;
+
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class MetricsController {
+    private final PrometheusMeterRegistry prometheusMeterRegistry;
+
+    /**
+     * 프로메테우스 수집 엔드포인트
+     */
+    @GetMapping("/metrics/prometheus")
+    public ResponseEntity<String> scrape() {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, TextFormat.CONTENT_TYPE_004)
+                .body(prometheusMeterRegistry.scrape());
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.reservation.controller;
 
+import com.example.reservation.concurrent.BookingExecutor;
 import com.example.reservation.domain.model.ReservationRequest;
+import com.example.reservation.domain.model.ReservationStatusBulkRequest;
 import com.example.reservation.service.ReservationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +12,7 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/reservation")
@@ -17,6 +20,7 @@ import java.time.LocalDate;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final BookingExecutor bookingExecutor;
 
     /**
      * 매장 예약
@@ -28,6 +32,17 @@ public class ReservationController {
         return ResponseEntity.ok(reservationService.reserveStore(storeId, reservationRequest));
     }
 
+    /**
+     * 매장 예약 (비동기)
+     * 예약 처리 전용 스레드 풀에서 처리하고, 대기열이 가득 차면 503 과 Retry-After 헤더를 응답한다.
+     */
+    @PostMapping("/async/{storeId}")
+    public CompletableFuture<ResponseEntity<?>> reserveStoreAsync(@PathVariable Long storeId,
+                                                                  @RequestBody @Valid ReservationRequest reservationRequest) {
+
+        return bookingExecutor.submit(() -> ResponseEntity.ok(reservationService.reserveStore(storeId, reservationRequest)));
+    }
+
     /**
      * 예약 수정
      * 예약 리스트에서 예약 내역을 보고 수정을 하도록 한다.
@@ -56,6 +71,16 @@ public class ReservationController {
         return ResponseEntity.ok(reservationService.getReservationListForUser(pageable));
     }
 
+    /**
+     * 예약 확인 - 사용자 (커서 기반)
+     * 첫 페이지는 after 를 빈 값으로 요청하고, 이후에는 응답의 nextCursor 를 after 로 전달한다.
+     */
+    @GetMapping(value = "/list", params = "after")
+    public ResponseEntity<?> getReservationListForUserAfter(@RequestParam String after,
+                                                            @RequestParam(required = false, defaultValue = "20") int size) {
+        return ResponseEntity.ok(reservationService.getReservationListForUserAfter(after, size));
+    }
+
     /**
      * 예약 확인 - 파트너
      * 자기가 관리하는 매장의 예약 현황을 리스트로 보여준다.
@@ -68,6 +93,17 @@ public class ReservationController {
         return ResponseEntity.ok(reservationService.getReservationListForPartner(storeId, date, pageable));
     }
 
+    /**
+     * 예약 확인 - 파트너 (커서 기반)
+     */
+    @GetMapping(value = "/list/{storeId}", params = "after")
+    public ResponseEntity<?> getReservationListForPartnerAfter(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                                               @PathVariable Long storeId,
+                                                               @RequestParam String after,
+                                                               @RequestParam(required = false, defaultValue = "20") int size) {
+        return ResponseEntity.ok(reservationService.getReservationListForPartnerAfter(storeId, date, after, size));
+    }
+
     /**
      * 예약 승인
      * 점장이 예약내역을 보고 승인이 가능한 시간대라면 예약을 승인한다.
@@ -88,4 +124,13 @@ public class ReservationController {
         return ResponseEntity.ok(reservationService.refuseReservation(reservationId));
     }
 
+    /**
+     * 예약 일괄 승인, 거절
+     * 점장이 여러 예약을 한 번에 승인하거나 거절한다. 예약별 처리 결과를 리스트로 보여준다.
+     * 로그인한 사용자가 파트너 권한을 가지고 있어야 함.
+     */
+    @PatchMapping("/status")
+    public ResponseEntity<?> updateReservationStatuses(@RequestBody @Valid ReservationStatusBulkRequest request) {
+        return ResponseEntity.ok(reservationService.updateReservationStatuses(request));
+    }
 }
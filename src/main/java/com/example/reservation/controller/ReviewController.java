@@ -4,6 +4,7 @@ import com.example.reservation.domain.model.ReviewRequest;
 import com.example.reservation.domain.model.ReviewUpdateRequest;
 import com.example.reservation.service.ReviewService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -44,10 +45,10 @@ public class ReviewController {
     }
 
     /**
-     * 매장에 대한 리뷰 리스트를 보여준다.
+     * 매장에 대한 리뷰 리스트를 최근 작성 순으로 페이지 단위로 보여준다.
      */
     @GetMapping("/{storeId}")
-    public ResponseEntity<?> showReviews(@PathVariable Long storeId) {
-        return ResponseEntity.ok(reviewService.showReviews(storeId));
+    public ResponseEntity<?> showReviews(@PathVariable Long storeId, Pageable pageable) {
+        return ResponseEntity.ok(reviewService.showReviews(storeId, pageable));
     }
 }
@@ -3,6 +3,8 @@ package com.example.reservation.controller;
 import com.example.reservation.domain.model.StoreRequest;
 import com.example.reservation.domain.model.StoreResponse;
 import com.example.reservation.exception.ReservationException;
+import com.example.reservation.importer.StoreImportFormat;
+import com.example.reservation.service.StoreImportService;
 import com.example.reservation.service.StoreService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.io.InputStream;
 import java.util.List;
 
 import static com.example.reservation.exception.ErrorCode.INVALID_REQUEST;
@@ -23,6 +26,7 @@ import static com.example.reservation.exception.ErrorCode.INVALID_REQUEST;
 public class StoreController {
 
     private final StoreService storeService;
+    private final StoreImportService storeImportService;
 
     /**
      * 매장 등록
@@ -35,6 +39,22 @@ public class StoreController {
         return ResponseEntity.ok(storeResponse);
     }
 
+    /**
+     * 매장 일괄 등록
+     * CSV(text/csv) 또는 한 줄에 JSON 하나(application/x-ndjson) 형식의 파일을 요청 본문으로 받는다.
+     * 행별 등록 결과와 실패한 행의 줄 번호, 실패 이유를 보여준다.
+     * 로그인한 사용자가 파트너 권한을 가지고 있어야 한다.
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<?> importStoresFromCsv(InputStream inputStream) {
+        return ResponseEntity.ok(storeImportService.importStores(inputStream, StoreImportFormat.CSV));
+    }
+
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<?> importStoresFromNdjson(InputStream inputStream) {
+        return ResponseEntity.ok(storeImportService.importStores(inputStream, StoreImportFormat.NDJSON));
+    }
+
     /**
      * 매장 정보 수정
      */
@@ -63,6 +83,26 @@ public class StoreController {
         return getStoresByQueryParam(orderBy, pageable);
     }
 
+    /**
+     * 모든 매장 정보를 커서 기반으로 가져온다.
+     * 첫 페이지는 after 를 빈 값으로 요청하고, 이후에는 응답의 nextCursor 를 after 로 전달한다.
+     */
+    @GetMapping(value = "/list", params = "after")
+    public ResponseEntity<?> getStoresAfter(@RequestParam(required = false, defaultValue = "name") String orderBy,
+                                            @RequestParam String after,
+                                            @RequestParam(required = false, defaultValue = "20") int size) {
+        switch (orderBy) {
+            case "name":
+                return ResponseEntity.ok(storeService.getStoresOrderByNameAfter(after, size));
+            case "rating":
+                return ResponseEntity.ok(storeService.getStoresOrderByRatingAfter(after, size));
+            case "review":
+                return ResponseEntity.ok(storeService.getStoresOrderByReviewCountAfter(after, size));
+            default:
+                throw new ReservationException(INVALID_REQUEST);
+        }
+    }
+
     /**
      * 쿼리 파라미터에 따라 다른 메서드 실행
      * name을 받으면 가나다순
@@ -85,10 +125,12 @@ public class StoreController {
     /**
      * 매장 이름을 통해 검색하는 기능
      * 자동완성 기능으로 사용할 수도 있다.
+     * 자모 단위로 비교하기 때문에 입력 중인 글자("ㄱ", "가ㄴ")로도 검색되고, 평점이 높은 순으로 size 개까지 보여준다.
      */
     @GetMapping("/search")
-    public ResponseEntity<?> searchStore(@RequestParam String name) {
-        List<StoreResponse> searchResponseList = storeService.searchStore(name);
+    public ResponseEntity<?> searchStore(@RequestParam String name,
+                                         @RequestParam(required = false, defaultValue = "10") int size) {
+        List<StoreResponse> searchResponseList = storeService.searchStore(name, size);
 
         return ResponseEntity.ok(searchResponseList);
     }
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -26,7 +27,8 @@ import java.util.List;
 @EntityListeners(AuditingEntityListener.class)
 public class Member implements UserDetails {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "member_id")
+    @GenericGenerator(name = "member_id", strategy = "com.example.reservation.domain.generator.PooledIdGenerator")
     private Long id;
 
     @Column(unique = true)
@@ -47,6 +49,10 @@ public class Member implements UserDetails {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    public void updatePassword(String password) {
+        this.password = password;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         Collection<GrantedAuthority> authorities = new ArrayList<>();
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import javax.persistence.*;
@@ -16,9 +17,20 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
+@Table(uniqueConstraints = {
+        // 한 매장의 같은 시간에는 하나의 예약만 존재할 수 있음
+        // (store_id, reservation_date) 복합 인덱스로도 사용되어 매장의 날짜별 예약 조회를 처리한다.
+        @UniqueConstraint(name = "uk_reservation_store_date", columnNames = {"store_id", "reservation_date"})
+}, indexes = {
+        // 사용자별 예약 내역 조회용
+        @Index(name = "idx_reservation_member_date", columnList = "member_id, reservation_date"),
+        // 기간이 지난 예약 정리용
+        @Index(name = "idx_reservation_status_date", columnList = "reservation_status, reservation_date")
+})
 public class Reservation {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "reservation_id")
+    @GenericGenerator(name = "reservation_id", strategy = "com.example.reservation.domain.generator.PooledIdGenerator")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -31,9 +43,11 @@ public class Reservation {
 
     private boolean visitYn;
 
+    @Column(name = "reservation_date")
     private LocalDateTime reservationDate;
 
     @Enumerated(EnumType.STRING)
+    @Column(name = "reservation_status")
     private ReservationStatus reservationStatus;
 
     public void updateReservation(LocalDateTime reservationDate) {
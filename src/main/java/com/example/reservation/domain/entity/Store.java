@@ -1,10 +1,13 @@
 package com.example.reservation.domain.entity;
 
 import com.example.reservation.domain.model.StoreRequest;
+import com.example.reservation.utils.StoreIdentityUtils;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -20,10 +23,22 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
+@Table(uniqueConstraints = {
+        // 정규화한 (주소, 연락처)가 같은 매장은 하나만 존재할 수 있음
+        @UniqueConstraint(name = "uk_store_identity_key", columnNames = "identity_key")
+}, indexes = {
+        // 이름, 평점, 리뷰 개수 순 매장 리스트 조회용
+        @Index(name = "idx_store_name", columnList = "name"),
+        @Index(name = "idx_store_rating", columnList = "rating"),
+        @Index(name = "idx_store_review_count", columnList = "review_count"),
+        // 검색 인덱스의 변경 동기화용
+        @Index(name = "idx_store_updated_at", columnList = "updated_at")
+})
 public class Store {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "store_id")
+    @GenericGenerator(name = "store_id", strategy = "com.example.reservation.domain.generator.PooledIdGenerator")
     private Long id;
 
     private String owner;
@@ -34,9 +49,24 @@ public class Store {
     private LocalTime open;
     private LocalTime close;
 
+    // 정규화한 주소와 연락처의 해시, 같은 매장 여부 확인용 (StoreIdentityUtils)
+    @Column(name = "identity_key", length = StoreIdentityUtils.KEY_LENGTH)
+    private String identityKey;
+
     @Builder.Default
     private Double rating = 0.0;
 
+    // 리뷰 평점의 합계와 리뷰 개수, 평점은 두 값으로부터 계산한다.
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Double ratingSum = 0.0;
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "review_count", nullable = false)
+    private Integer reviewCount = 0;
+
     @OneToMany(mappedBy = "store")
     private List<Reservation> reservationList;
 
@@ -47,6 +77,7 @@ public class Store {
     private LocalDateTime createdAt;
 
     @LastModifiedDate
+    @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
     public void updateStore(StoreRequest storeRequest) {
@@ -56,19 +87,48 @@ public class Store {
         this.contact = storeRequest.getContact();
         this.open = storeRequest.getOpen();
         this.close = storeRequest.getClose();
+        this.identityKey = StoreIdentityUtils.key(this.address, this.contact);
+    }
+
+    // 새 매장은 저장 전에 식별 키를 만든다. 평점 변경 등 다른 수정에서는 다시 계산하지 않는다.
+    @PrePersist
+    public void refreshIdentityKey() {
+        this.identityKey = StoreIdentityUtils.key(this.address, this.contact);
     }
 
-    public void updateRating() {
-        double totalRating = reviews.stream()
-                .mapToDouble(Review::getRating)
-                .sum();
-        int totalCount = reviews.size();
+    // 리뷰 작성 시 평점 반영
+    public void addRating(double rating) {
+        applyRating(rating, 1);
+    }
 
-        System.out.println("totalRating = " + totalRating);
-        System.out.println("totalCount = " + totalCount);
+    // 리뷰 수정 시 이전 평점과의 차이만 반영
+    public void changeRating(double previousRating, double rating) {
+        applyRating(rating - previousRating, 0);
+    }
+
+    // 리뷰 삭제 시 평점 제외
+    public void removeRating(double rating) {
+        applyRating(-rating, -1);
+    }
+
+    // 리뷰 테이블로부터 다시 계산한 합계와 개수로 덮어쓴다.
+    public void reconcileRating(double ratingSum, int reviewCount) {
+        this.ratingSum = ratingSum;
+        this.reviewCount = reviewCount;
+        this.rating = calculateRating();
+    }
+
+    private void applyRating(double ratingDelta, int countDelta) {
+        this.ratingSum += ratingDelta;
+        this.reviewCount += countDelta;
+        this.rating = calculateRating();
+    }
 
-        this.rating = (double) Math.round(totalRating / totalCount * 10) / 10;
+    private double calculateRating() {
+        if (reviewCount <= 0) {
+            return 0.0;
+        }
 
-        System.out.println("this.rating = " + this.rating);
+        return (double) Math.round(ratingSum / reviewCount * 10) / 10;
     }
 }
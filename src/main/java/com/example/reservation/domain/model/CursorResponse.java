@@ -0,0 +1,36 @@
+package com.example.reservation.domain.model;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+// 커서 기반 페이징 응답, 다음 페이지는 nextCursor 를 after 파라미터로 전달해서 조회한다.
+public class CursorResponse<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /**
+     * 페이지 크기보다 하나 더 조회한 결과를 받아서 다음 페이지 존재 여부를 판단하고,
+     * 마지막 행의 정렬 키로 다음 커서를 만든다.
+     */
+    public static <E, T> CursorResponse<T> of(List<E> rows, int size,
+                                              Function<E, T> mapper,
+                                              Function<E, String> cursorMapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorResponse.<T>builder()
+                .content(page.stream().map(mapper).collect(Collectors.toList()))
+                .nextCursor(hasNext ? cursorMapper.apply(page.get(page.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
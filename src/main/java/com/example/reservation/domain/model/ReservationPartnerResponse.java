@@ -18,13 +18,16 @@ public class ReservationPartnerResponse {
     private LocalDateTime reservationDate;
     private ReservationStatus reservationStatus;
 
-    public static Page<ReservationPartnerResponse> toDtoList(Page<Reservation> page) {
-        return page.map(reservation -> ReservationPartnerResponse.builder()
+    public static ReservationPartnerResponse fromEntity(Reservation reservation) {
+        return ReservationPartnerResponse.builder()
                 .memberName(reservation.getMember().getName())
                 .phone(reservation.getMember().getPhone())
                 .reservationDate(reservation.getReservationDate())
                 .reservationStatus(reservation.getReservationStatus())
-                .build());
+                .build();
+    }
 
+    public static Page<ReservationPartnerResponse> toDtoList(Page<Reservation> page) {
+        return page.map(ReservationPartnerResponse::fromEntity);
     }
 }
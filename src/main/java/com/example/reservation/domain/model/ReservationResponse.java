@@ -20,16 +20,19 @@ public class ReservationResponse {
     private LocalDateTime reservationDate;
     private ReservationStatus reservationStatus;
 
-    public static Page<ReservationResponse> toDtoList(Page<Reservation> page) {
-        return page.map(reservation -> ReservationResponse.builder()
+    public static ReservationResponse fromEntity(Reservation reservation) {
+        return ReservationResponse.builder()
                 .storeName(reservation.getStore().getName())
                 .memberName(reservation.getMember().getName())
                 .address(reservation.getStore().getAddress())
                 .contact(reservation.getStore().getContact())
                 .reservationDate(reservation.getReservationDate())
                 .reservationStatus(reservation.getReservationStatus())
-                .build());
+                .build();
+    }
 
+    public static Page<ReservationResponse> toDtoList(Page<Reservation> page) {
+        return page.map(ReservationResponse::fromEntity);
     }
 
 }
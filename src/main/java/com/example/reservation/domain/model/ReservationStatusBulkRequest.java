@@ -0,0 +1,24 @@
+package com.example.reservation.domain.model;
+
+import com.example.reservation.type.ReservationStatus;
+import lombok.*;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationStatusBulkRequest {
+    @NotEmpty
+    @Size(max = 500)
+    private List<@NotNull Long> reservationIds;
+
+    // APPROVAL 또는 REFUSAL
+    @NotNull
+    private ReservationStatus reservationStatus;
+}
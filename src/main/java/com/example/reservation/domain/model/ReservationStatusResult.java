@@ -0,0 +1,37 @@
+package com.example.reservation.domain.model;
+
+import com.example.reservation.exception.ErrorCode;
+import com.example.reservation.type.ReservationStatus;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationStatusResult {
+    private Long reservationId;
+    private boolean updated;
+
+    // 변경된 경우 변경된 예약 상태, 변경되지 않은 경우 null
+    private ReservationStatus reservationStatus;
+
+    // 변경되지 않은 경우 그 이유, 변경된 경우 null
+    private ErrorCode errorCode;
+
+    public static ReservationStatusResult updated(Long reservationId, ReservationStatus reservationStatus) {
+        return ReservationStatusResult.builder()
+                .reservationId(reservationId)
+                .updated(true)
+                .reservationStatus(reservationStatus)
+                .build();
+    }
+
+    public static ReservationStatusResult failed(Long reservationId, ErrorCode errorCode) {
+        return ReservationStatusResult.builder()
+                .reservationId(reservationId)
+                .updated(false)
+                .errorCode(errorCode)
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.reservation.domain.model;
+
+import com.example.reservation.exception.ErrorCode;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoreImportError {
+    // 파일에서의 줄 번호 (헤더 포함, 1부터 시작)
+    private long line;
+    private ErrorCode errorCode;
+    private String message;
+}
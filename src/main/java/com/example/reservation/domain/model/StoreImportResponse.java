@@ -0,0 +1,20 @@
+package com.example.reservation.domain.model;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoreImportResponse {
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+
+    // 실패한 행은 앞에서부터 일정 개수까지만 담는다.
+    private List<StoreImportError> errors;
+    private boolean errorsTruncated;
+}
@@ -19,6 +19,7 @@ public enum ErrorCode {
     ONLY_FOR_USER("사용자 권한 필요."),
     ONLY_FOR_PARTNER("파트너 권한 필요."),
     MEMBER_HAS_STORE("매장이 있는 사용자는 탈퇴할 수 없습니다."),
+    TOO_MANY_AUTH_REQUESTS("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     // 매장 관련
     NOT_FOUND_STORE("매장 정보가 없습니다."),
@@ -38,6 +39,8 @@ public enum ErrorCode {
     CANNOT_UPDATE_RESERVATION("예약시간 30분전 이후부터는 예약 변경이 불가능 합니다."),
     CANNOT_CANCEL_RESERVATION("예약시간 30분전 이후부터는 예약 취소가 불가능 합니다."),
     ALREADY_VISITED_RESERVATION("이미 방문처리된 예약입니다."),
+    CANNOT_CHANGE_RESERVATION_STATUS("승인 또는 거절할 수 없는 상태의 예약입니다."),
+    TOO_MANY_RESERVATION_REQUESTS("예약 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     // 리뷰 관련
     NOT_FOUND_REVIEW("리뷰 정보가 없습니다."),
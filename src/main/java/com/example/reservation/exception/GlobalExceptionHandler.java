@@ -1,20 +1,33 @@
 package com.example.reservation.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.nio.file.AccessDeniedException;
+import java.util.concurrent.RejectedExecutionException;
 
 import static com.example.reservation.exception.ErrorCode.ACCESS_DENIED;
 import static com.example.reservation.exception.ErrorCode.INVALID_REQUEST;
+import static com.example.reservation.exception.ErrorCode.TOO_MANY_AUTH_REQUESTS;
+import static com.example.reservation.exception.ErrorCode.TOO_MANY_RESERVATION_REQUESTS;
 
 @RestControllerAdvice
 @Slf4j
 public class GlobalExceptionHandler {
 
+    @Value("${booking.executor.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    @Value("${auth.hashing.retry-after-seconds:1}")
+    private long authRetryAfterSeconds;
+
     @ExceptionHandler(ReservationException.class)
     public ResponseError handleReservationException(ReservationException e) {
         log.error("{} 예외 발생", e.getErrorCode());
@@ -42,4 +55,26 @@ public class GlobalExceptionHandler {
 
         return new ResponseError(INVALID_REQUEST, INVALID_REQUEST.getDescription());
     }
+
+    // 예약 처리 대기열이 가득 찬 경우
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ResponseError> handleRejectedExecutionException(RejectedExecutionException e) {
+        log.warn("RejectedExecutionException 예외 발생 - {}", e.getMessage());
+
+        return serviceUnavailable(TOO_MANY_RESERVATION_REQUESTS, retryAfterSeconds);
+    }
+
+    // 비밀번호 처리 대기열이 가득 찬 경우
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<ResponseError> handlePasswordHashingRejectedException(PasswordHashingRejectedException e) {
+        log.warn("PasswordHashingRejectedException 예외 발생 - {}", e.getMessage());
+
+        return serviceUnavailable(TOO_MANY_AUTH_REQUESTS, authRetryAfterSeconds);
+    }
+
+    private static ResponseEntity<ResponseError> serviceUnavailable(ErrorCode errorCode, long retryAfterSeconds) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(new ResponseError(errorCode, errorCode.getDescription()));
+    }
 }
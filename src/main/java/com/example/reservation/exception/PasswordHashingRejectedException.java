@@ -0,0 +1,13 @@
+package com.example.reservation.exception;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 비밀번호 처리 대기열이 가득 차서 로그인, 회원가입 요청을 받을 수 없는 경우
+ */
+public class PasswordHashingRejectedException extends RejectedExecutionException {
+
+    public PasswordHashingRejectedException(RejectedExecutionException cause) {
+        super(cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.reservation.importer;
+
+import com.example.reservation.domain.model.StoreRequest;
+import com.example.reservation.exception.ReservationException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.reservation.exception.ErrorCode.INVALID_REQUEST;
+
+/**
+ * 첫 줄이 헤더인 CSV 파일을 읽는다.
+ * 헤더에는 name, address, description, contact, open, close 컬럼이 있어야 하고 순서는 상관없다.
+ * 쉼표나 따옴표가 들어간 값은 큰따옴표로 감싸고, 값 안의 큰따옴표는 두 번 쓴다. 한 행은 한 줄이어야 한다.
+ */
+public class CsvStoreRowReader implements StoreRowReader {
+
+    private static final String[] COLUMNS = {"name", "address", "description", "contact", "open", "close"};
+
+    private final BufferedReader reader;
+
+    // 컬럼 이름 -> 헤더에서의 위치
+    private Map<String, Integer> header;
+    private long line = 0;
+
+    public CsvStoreRowReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public StoreImportRow next() throws IOException {
+        if (header == null) {
+            readHeader();
+        }
+
+        String text;
+
+        do {
+            text = reader.readLine();
+            line++;
+
+            if (text == null) {
+                return null;
+            }
+        } while (text.isBlank());
+
+        List<String> values = split(text);
+
+        if (values == null) {
+            return StoreImportRow.failed(line, "닫히지 않은 따옴표가 있습니다.");
+        }
+
+        if (values.size() < header.size()) {
+            return StoreImportRow.failed(line, "컬럼 개수가 헤더보다 적습니다.");
+        }
+
+        try {
+            return StoreImportRow.of(line, StoreRequest.builder()
+                    .name(value(values, "name"))
+                    .address(value(values, "address"))
+                    .description(value(values, "description"))
+                    .contact(value(values, "contact"))
+                    .open(time(value(values, "open")))
+                    .close(time(value(values, "close")))
+                    .build());
+        } catch (DateTimeParseException e) {
+            return StoreImportRow.failed(line, "시간 형식이 올바르지 않습니다. (HH:mm 또는 HH:mm:ss)");
+        }
+    }
+
+    // 헤더가 없거나 필요한 컬럼이 빠져 있으면 파일 전체를 처리할 수 없으므로 예외 발생
+    private void readHeader() throws IOException {
+        String text = reader.readLine();
+        line++;
+
+        // 엑셀에서 저장한 파일의 BOM 제거
+        if (text != null && text.startsWith("\uFEFF")) {
+            text = text.substring(1);
+        }
+
+        List<String> names = text == null ? null : split(text);
+
+        if (names == null) {
+            throw new ReservationException(INVALID_REQUEST);
+        }
+
+        header = new HashMap<>();
+
+        for (int i = 0; i < names.size(); i++) {
+            header.put(names.get(i).trim().toLowerCase(), i);
+        }
+
+        for (String column : COLUMNS) {
+            if (!header.containsKey(column)) {
+                throw new ReservationException(INVALID_REQUEST);
+            }
+        }
+    }
+
+    private String value(List<String> values, String column) {
+        return values.get(header.get(column)).trim();
+    }
+
+    private static LocalTime time(String value) {
+        return value.isEmpty() ? null : LocalTime.parse(value);
+    }
+
+    /**
+     * 한 줄을 쉼표 기준으로 나눈다. 따옴표가 닫히지 않았으면 null 리턴
+     */
+    private static List<String> split(String text) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+
+        if (quoted) {
+            return null;
+        }
+
+        values.add(value.toString());
+
+        return values;
+    }
+}
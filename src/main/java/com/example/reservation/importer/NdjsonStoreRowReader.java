@@ -0,0 +1,46 @@
+package com.example.reservation.importer;
+
+import com.example.reservation.domain.model.StoreRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * 한 줄에 매장 하나씩 JSON 객체로 작성된 파일을 읽는다. 빈 줄은 건너뛴다.
+ * {"name": "...", "address": "...", "description": "...", "contact": "...", "open": "08:00:00", "close": "20:00:00"}
+ */
+public class NdjsonStoreRowReader implements StoreRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader storeRequestReader;
+
+    private long line = 0;
+
+    public NdjsonStoreRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.storeRequestReader = objectMapper.readerFor(StoreRequest.class);
+    }
+
+    @Override
+    public StoreImportRow next() throws IOException {
+        String text;
+
+        do {
+            text = reader.readLine();
+            line++;
+
+            if (text == null) {
+                return null;
+            }
+        } while (text.isBlank());
+
+        try {
+            return StoreImportRow.of(line, storeRequestReader.readValue(text));
+        } catch (JsonProcessingException e) {
+            return StoreImportRow.failed(line, "JSON 형식이 올바르지 않습니다.");
+        }
+    }
+}
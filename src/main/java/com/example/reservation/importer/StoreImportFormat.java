@@ -0,0 +1,15 @@
+package com.example.reservation.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+
+// 일괄 등록 파일 형식, 요청의 Content-Type 으로 구분한다.
+public enum StoreImportFormat {
+    CSV,
+    NDJSON;
+
+    public StoreRowReader reader(BufferedReader reader, ObjectMapper objectMapper) {
+        return this == CSV ? new CsvStoreRowReader(reader) : new NdjsonStoreRowReader(reader, objectMapper);
+    }
+}
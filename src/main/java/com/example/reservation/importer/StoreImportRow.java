@@ -0,0 +1,30 @@
+package com.example.reservation.importer;
+
+import com.example.reservation.domain.model.StoreRequest;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일괄 등록 파일의 한 행
+ * 읽기에 성공하면 storeRequest, 실패하면 error 에 실패 이유를 담는다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class StoreImportRow {
+    private final long line;
+    private final StoreRequest storeRequest;
+    private final String error;
+
+    public static StoreImportRow of(long line, StoreRequest storeRequest) {
+        return new StoreImportRow(line, storeRequest, null);
+    }
+
+    public static StoreImportRow failed(long line, String error) {
+        return new StoreImportRow(line, null, error);
+    }
+
+    public boolean isFailed() {
+        return error != null;
+    }
+}
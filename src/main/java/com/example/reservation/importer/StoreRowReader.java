@@ -0,0 +1,15 @@
+package com.example.reservation.importer;
+
+import java.io.IOException;
+
+/**
+ * 일괄 등록 파일을 한 행씩 읽는다.
+ * 파일 전체를 메모리에 올리지 않고 요청 본문 스트림에서 필요한 만큼만 읽는다.
+ */
+public interface StoreRowReader {
+
+    /**
+     * 다음 행을 리턴, 더 이상 행이 없으면 null
+     */
+    StoreImportRow next() throws IOException;
+}
@@ -0,0 +1,105 @@
+package com.example.reservation.job;
+
+import com.example.reservation.repository.ReservationRepository;
+import com.example.reservation.repository.projection.ReservationKey;
+import com.example.reservation.type.ReservationStatus;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.example.reservation.type.ReservationStatus.*;
+
+/**
+ * 기간이 지난 예약 정리 작업
+ * 예약 시간이 지날 때까지 승인 대기 중인 예약은 EXPIRED, 승인되었지만 방문하지 않은 예약은 NO_SHOW 로 변경한다.
+ * (reservation_status, reservation_date) 인덱스로 대상을 작은 묶음씩 조회하고, 묶음마다 UPDATE 문 하나를 짧은 트랜잭션으로 실행해서
+ * 예약 요청과의 락 경합을 줄인다.
+ * 실행마다 처리 건수(reservation.sweep.rows)와 소요 시간(reservation.sweep.duration)을 메트릭으로 노출한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "job.reservation-sweep.enabled", havingValue = "true")
+public class ReservationSweepJob {
+
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    private final Timer duration;
+    private final DistributionSummary expiredRows;
+    private final DistributionSummary noShowRows;
+
+    public ReservationSweepJob(ReservationRepository reservationRepository,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${job.reservation-sweep.chunk-size:200}") int chunkSize) {
+        this.reservationRepository = reservationRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+
+        this.duration = Timer.builder("reservation.sweep.duration")
+                .description("기간이 지난 예약 정리 1회 소요 시간")
+                .register(meterRegistry);
+        this.expiredRows = rowsSummary(meterRegistry, EXPIRED);
+        this.noShowRows = rowsSummary(meterRegistry, NO_SHOW);
+    }
+
+    @Scheduled(fixedDelayString = "${job.reservation-sweep.fixed-delay-ms:300000}",
+            initialDelayString = "${job.reservation-sweep.initial-delay-ms:60000}")
+    public void sweep() {
+        Timer.Sample sample = Timer.start();
+        LocalDateTime now = LocalDateTime.now();
+
+        int expired = sweep(WAITING, EXPIRED, now);
+        int noShow = sweep(APPROVAL, NO_SHOW, now);
+
+        long elapsed = sample.stop(duration);
+        expiredRows.record(expired);
+        noShowRows.record(noShow);
+
+        if (expired > 0 || noShow > 0) {
+            log.info("기간이 지난 예약 정리 완료 - 만료 {}건, 노쇼 {}건, {}ms", expired, noShow, elapsed / 1_000_000);
+        }
+    }
+
+    /**
+     * cutoff 이전의 from 상태인 미방문 예약을 to 상태로 변경하고 변경된 건수를 리턴
+     */
+    public int sweep(ReservationStatus from, ReservationStatus to, LocalDateTime cutoff) {
+        PageRequest chunk = PageRequest.of(0, chunkSize);
+        List<ReservationKey> keys = reservationRepository.findUnvisitedKeys(from, cutoff, chunk);
+        int total = 0;
+
+        while (!keys.isEmpty()) {
+            List<Long> ids = keys.stream().map(ReservationKey::getId).collect(Collectors.toList());
+
+            Integer updated = transactionTemplate.execute(status ->
+                    reservationRepository.updateUnvisitedStatusByIdIn(ids, from, to));
+            total += updated == null ? 0 : updated;
+
+            ReservationKey last = keys.get(keys.size() - 1);
+            keys = reservationRepository.findUnvisitedKeysAfter(from, cutoff,
+                    last.getReservationDate(), last.getId(), chunk);
+        }
+
+        return total;
+    }
+
+    private static DistributionSummary rowsSummary(MeterRegistry meterRegistry, ReservationStatus status) {
+        return DistributionSummary.builder("reservation.sweep.rows")
+                .description("기간이 지난 예약 정리 1회 처리 건수")
+                .tag("status", status.name())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.reservation.job;
+
+import com.example.reservation.domain.entity.Store;
+import com.example.reservation.repository.StoreRepository;
+import com.example.reservation.utils.StoreIdentityUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 매장 식별 키 생성 작업
+ * 식별 키가 추가되기 전에 등록된 매장의 키를 만든다.
+ * 이미 다른 매장이 같은 키를 가지고 있으면 (정규화하면 같은 기존 중복 매장) 유니크 제약 때문에 키를 비워두고 로그로 남긴다.
+ * job.store-identity-backfill.enabled 가 true 인 경우 애플리케이션 시작 시 한 번 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "job.store-identity-backfill.enabled", havingValue = "true")
+public class StoreIdentityBackfillJob implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final StoreRepository storeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        backfill();
+    }
+
+    public void backfill() {
+        long lastId = 0L;
+        int total = 0;
+        int skipped = 0;
+
+        while (true) {
+            long afterId = lastId;
+            BatchResult result = transactionTemplate.execute(status -> backfillBatch(afterId));
+
+            if (result == null || result.lastId == null) {
+                break;
+            }
+
+            lastId = result.lastId;
+            total += result.updated;
+            skipped += result.skipped;
+        }
+
+        if (skipped > 0) {
+            log.warn("매장 식별 키 생성 중 기존 중복 매장 {}개는 키를 만들지 않음", skipped);
+        }
+
+        log.info("매장 식별 키 생성 완료 - {}개 매장", total);
+    }
+
+    private BatchResult backfillBatch(long lastId) {
+        List<Store> stores = storeRepository.findWithoutIdentityKeyAfter(lastId, PageRequest.of(0, BATCH_SIZE));
+
+        if (stores.isEmpty()) {
+            return new BatchResult(null, 0, 0);
+        }
+
+        Set<String> keys = stores.stream()
+                .map(store -> StoreIdentityUtils.key(store.getAddress(), store.getContact()))
+                .collect(Collectors.toSet());
+        Set<String> usedKeys = new HashSet<>(storeRepository.findIdentityKeysIn(keys));
+
+        int updated = 0;
+        int skipped = 0;
+
+        for (Store store : stores) {
+            // 이미 키를 가진 매장이나 같은 배치의 앞 매장과 같으면 건너뜀
+            if (!usedKeys.add(StoreIdentityUtils.key(store.getAddress(), store.getContact()))) {
+                log.warn("매장 식별 키 중복 - 매장 {}", store.getId());
+                skipped++;
+                continue;
+            }
+
+            store.refreshIdentityKey();
+            updated++;
+        }
+
+        return new BatchResult(stores.get(stores.size() - 1).getId(), updated, skipped);
+    }
+
+    private static class BatchResult {
+        private final Long lastId;
+        private final int updated;
+        private final int skipped;
+
+        private BatchResult(Long lastId, int updated, int skipped) {
+            this.lastId = lastId;
+            this.updated = updated;
+            this.skipped = skipped;
+        }
+    }
+}
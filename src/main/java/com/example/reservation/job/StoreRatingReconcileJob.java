@@ -0,0 +1,90 @@
+package com.example.reservation.job;
+
+import com.example.reservation.cache.StoreDetailCache;
+import com.example.reservation.domain.entity.Store;
+import com.example.reservation.repository.ReviewRepository;
+import com.example.reservation.repository.StoreRepository;
+import com.example.reservation.repository.projection.StoreRatingAggregate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 매장 평점 집계 값 재계산 작업
+ * 리뷰 테이블을 기준으로 매장별 평점 합계와 리뷰 개수를 다시 계산한다.
+ * job.store-rating-reconcile.enabled 가 true 인 경우(기본값) 애플리케이션 시작 시 한 번 실행된다.
+ * 집계 컬럼이 추가되기 전에 등록된 매장은 0 으로 시작하므로 배포 시 채워지도록 기본으로 켜 둔다.
+ *
+ * 집계 값이 리뷰 테이블과 다른 매장만 잠그고 다시 계산하므로, 한 번 맞춰진 뒤의 재시작에서는 조회만 하고 끝난다.
+ * 비교 조회는 락을 걸지 않으며, 여러 서버가 동시에 실행해도 결과는 같다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "job.store-rating-reconcile.enabled", havingValue = "true")
+public class StoreRatingReconcileJob implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final StoreRepository storeRepository;
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StoreDetailCache storeDetailCache;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reconcile();
+    }
+
+    public void reconcile() {
+        long lastId = 0L;
+        int total = 0;
+
+        while (true) {
+            List<Long> storeIds = storeRepository.findIdsWithMismatchedRatingAfter(lastId, PageRequest.of(0, BATCH_SIZE));
+
+            if (storeIds.isEmpty()) {
+                break;
+            }
+
+            // 배치 단위로 짧은 트랜잭션을 사용해서 리뷰 작성과의 락 경합을 줄인다.
+            transactionTemplate.executeWithoutResult(status -> reconcileBatch(storeIds));
+            storeDetailCache.invalidateAll(storeIds);
+
+            lastId = storeIds.get(storeIds.size() - 1);
+            total += storeIds.size();
+        }
+
+        log.info("매장 평점 재계산 완료 - {}개 매장", total);
+    }
+
+    private void reconcileBatch(List<Long> storeIds) {
+        // 매장을 먼저 잠근 뒤 집계해야 리뷰 작성(매장 잠금 후 합계 반영)이 집계와 반영 사이에 끼어들지 못한다.
+        List<Store> stores = storeRepository.findAllByIdInForUpdate(storeIds);
+
+        Map<Long, StoreRatingAggregate> aggregates = reviewRepository.aggregateRatingByStoreIds(storeIds).stream()
+                .collect(Collectors.toMap(StoreRatingAggregate::getStoreId, Function.identity()));
+
+        for (Store store : stores) {
+            StoreRatingAggregate aggregate = aggregates.get(store.getId());
+
+            // 리뷰가 없는 매장은 0으로 초기화
+            if (aggregate == null) {
+                store.reconcileRating(0.0, 0);
+                continue;
+            }
+
+            store.reconcileRating(aggregate.getRatingSum(), aggregate.getReviewCount().intValue());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.reservation.job;
+
+import com.example.reservation.cache.KioskArrivalIndex;
+import com.example.reservation.repository.ReservationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static com.example.reservation.type.ReservationStatus.APPROVAL;
+
+/**
+ * 키오스크 방문 확인 결과를 모아서 DB 에 반영
+ * 방문 확인 요청은 메모리에서 처리하고 바로 응답하며, 방문 처리된 예약 번호는 짧은 주기마다 UPDATE 문 하나로 저장한다.
+ * 저장에 실패한 예약 번호는 다음 주기에 다시 시도한다.
+ *
+ * 방문 예정 목록(KioskArrivalIndex)은 서버마다 따로 가지고 있으므로 다른 서버에서 승인이 취소되거나 변경된 예약도 방문 확인될 수 있다.
+ * 이런 예약은 UPDATE 에서 걸러져 저장되지 않으므로, 변경된 행 수가 요청 수보다 적으면 저장되지 않은 예약을 찾아
+ * 오류 로그와 kiosk.visit.dropped 메트릭으로 남기고 이 서버의 목록에서 제거한다.
+ */
+@Slf4j
+@Component
+public class VisitWriteBack {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final KioskArrivalIndex kioskArrivalIndex;
+    private final Counter dropped;
+
+    private final Queue<Long> pending = new ConcurrentLinkedQueue<>();
+
+    public VisitWriteBack(ReservationRepository reservationRepository,
+                          TransactionTemplate transactionTemplate,
+                          KioskArrivalIndex kioskArrivalIndex,
+                          MeterRegistry meterRegistry) {
+        this.reservationRepository = reservationRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.kioskArrivalIndex = kioskArrivalIndex;
+
+        // 아직 저장되지 않은 방문 확인 건수
+        Gauge.builder("kiosk.visit.pending", pending, Queue::size)
+                .register(meterRegistry);
+
+        // 응답은 했지만 예약 상태가 바뀌어 저장되지 않은 방문 확인 건수
+        this.dropped = Counter.builder("kiosk.visit.dropped")
+                .description("승인 상태가 아니어서 저장되지 않은 방문 확인 건수")
+                .register(meterRegistry);
+    }
+
+    public void enqueue(Long reservationId) {
+        pending.add(reservationId);
+    }
+
+    @Scheduled(fixedDelayString = "${kiosk.visit-write-back.fixed-delay-ms:500}")
+    public void flush() {
+        while (!pending.isEmpty()) {
+            List<Long> ids = new ArrayList<>(BATCH_SIZE);
+            Long id;
+
+            while (ids.size() < BATCH_SIZE && (id = pending.poll()) != null) {
+                ids.add(id);
+            }
+
+            List<Long> droppedIds;
+
+            try {
+                droppedIds = transactionTemplate.execute(status -> save(ids));
+            } catch (DataAccessException e) {
+                log.error("방문 확인 저장 실패 - {}건, 다음 주기에 다시 시도", ids.size(), e);
+                pending.addAll(ids);
+                return;
+            }
+
+            if (!droppedIds.isEmpty()) {
+                log.error("방문 확인 {}건 중 {}건이 승인된 예약이 아니어서 저장되지 않음 - 예약 번호 {}",
+                        ids.size(), droppedIds.size(), droppedIds);
+                dropped.increment(droppedIds.size());
+                kioskArrivalIndex.removeAll(droppedIds);
+            }
+        }
+    }
+
+    // 방문 처리하고 저장되지 않은 예약 번호를 리턴
+    private List<Long> save(List<Long> ids) {
+        Set<Long> distinctIds = new HashSet<>(ids);
+        int updated = reservationRepository.updateVisitedByIdIn(distinctIds, APPROVAL);
+
+        if (updated == distinctIds.size()) {
+            return List.of();
+        }
+
+        distinctIds.removeAll(reservationRepository.findVisitedIdsIn(distinctIds));
+
+        return new ArrayList<>(distinctIds);
+    }
+
+    // 종료 전에 남은 방문 확인을 저장
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
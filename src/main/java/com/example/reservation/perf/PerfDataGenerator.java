@@ -0,0 +1,426 @@
+package com.example.reservation.perf;
+
+import com.example.reservation.type.MemberType;
+import com.example.reservation.type.ReservationStatus;
+import com.example.reservation.utils.StoreIdentityUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static com.example.reservation.type.ReservationStatus.*;
+
+/**
+ * 부하 테스트용 대용량 데이터 생성 (perf 프로필)
+ * 같은 seed 와 설정이면 항상 같은 데이터를 만든다.
+ * 모든 시각은 기준일(perf.data.anchor-date, 기본값 오늘)로부터 계산하므로, 다른 날 같은 데이터를 만들려면 기준일을 고정한다.
+ * 회원(사용자, 파트너), 매장, 예약, 리뷰를 JPA 를 거치지 않고 JDBC 배치로 저장하며, 매장 인기도는 Zipf 분포를 따른다.
+ * ApplicationRunner 로 실행되므로 검색 인덱스 등은 생성된 데이터로 적재된다. 매장이 이미 있으면 생성하지 않는다.
+ *
+ * 매장은 영업시간 안에서 1분에 하나의 예약만 받을 수 있고, 기간 내 자리가 모두 찬 매장의 예약은 다음 인기 매장으로 넘어간다.
+ * 지난 예약 중 방문한 예약의 일부에 리뷰를 작성하고, 매장의 평점 합계, 리뷰 수, 평점도 함께 맞춘다.
+ * 모든 회원의 비밀번호는 "password" 이다.
+ */
+@Slf4j
+@Component
+@Profile("perf")
+public class PerfDataGenerator implements ApplicationRunner {
+
+    private static final String PASSWORD = "password";
+
+    private static final String[] NAME_PREFIXES = {
+            "피자", "치킨", "카페", "분식", "국밥", "초밥", "버거", "파스타", "빵집", "곱창",
+            "냉면", "족발", "삼겹살", "떡볶이", "라멘", "쌀국수", "샐러드", "베이커리", "횟집", "중국집"};
+    private static final String[] DISTRICTS = {
+            "강남구", "서초구", "송파구", "마포구", "용산구", "종로구", "중구", "성동구", "광진구", "영등포구"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+
+    private final long seed;
+    private final int users;
+    private final int partners;
+    private final int stores;
+    private final long reservations;
+    private final double reviewRatio;
+    private final double zipfExponent;
+    private final int pastDays;
+    private final int futureDays;
+    private final int batchSize;
+    private final LocalDate anchorDate;
+
+    public PerfDataGenerator(JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             DataSource dataSource,
+                             PasswordEncoder passwordEncoder,
+                             @Value("${perf.data.seed:42}") long seed,
+                             @Value("${perf.data.users:100000}") int users,
+                             @Value("${perf.data.partners:10000}") int partners,
+                             @Value("${perf.data.stores:100000}") int stores,
+                             @Value("${perf.data.reservations:10000000}") long reservations,
+                             @Value("${perf.data.review-ratio:0.3}") double reviewRatio,
+                             @Value("${perf.data.zipf-exponent:1.0}") double zipfExponent,
+                             @Value("${perf.data.past-days:365}") int pastDays,
+                             @Value("${perf.data.future-days:30}") int futureDays,
+                             @Value("${perf.data.batch-size:5000}") int batchSize,
+                             @Value("${perf.data.anchor-date:}") String anchorDate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.dataSource = dataSource;
+        this.passwordEncoder = passwordEncoder;
+        this.seed = seed;
+        this.users = users;
+        this.partners = partners;
+        this.stores = stores;
+        this.reservations = reservations;
+        this.reviewRatio = reviewRatio;
+        this.zipfExponent = zipfExponent;
+        this.pastDays = pastDays;
+        this.futureDays = futureDays;
+        this.batchSize = batchSize;
+        this.anchorDate = anchorDate.isEmpty() ? LocalDate.now() : LocalDate.parse(anchorDate);
+    }
+
+    public static String user(int i) {
+        return "user" + i;
+    }
+
+    public static String partner(int i) {
+        return "partner" + i;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long existingStores = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM store", Long.class);
+
+        if (existingStores != null && existingStores > 0) {
+            log.info("부하 테스트 데이터 생성 생략 - 이미 매장 {}개가 있습니다.", existingStores);
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(seed);
+        LocalDateTime now = anchorDate.atStartOfDay();
+
+        // 회원과 매장은 가장 이른 예약보다 먼저 가입, 등록된 것으로 한다.
+        Timestamp createdAt = Timestamp.valueOf(now.minusDays(pastDays));
+
+        long firstMemberId = nextId("member");
+        insertMembers(firstMemberId, createdAt);
+
+        long firstStoreId = nextId("store");
+        StoreHours hours = insertStores(firstStoreId, random.split(), createdAt);
+
+        insertReservationsAndReviews(firstMemberId, firstStoreId, hours, random.split(), now);
+
+        // 아이디 생성기의 다음 값을 생성된 데이터 이후로 맞춘다.
+        new ResourceDatabasePopulator(new ClassPathResource("data-mysql.sql")).execute(dataSource);
+
+        log.info("부하 테스트 데이터 생성 완료 - 기준일 {}, 회원 {}명, 매장 {}개, 예약 {}건, {}초",
+                anchorDate, users + partners, stores, reservations, (System.currentTimeMillis() - start) / 1000);
+    }
+
+    private long nextId(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+
+        return (maxId == null ? 0 : maxId) + 1;
+    }
+
+    // 사용자 다음에 파트너, user(i) 의 아이디는 firstMemberId + i
+    private void insertMembers(long firstMemberId, Timestamp createdAt) {
+        String password = passwordEncoder.encode(PASSWORD);
+        List<Object[]> rows = new ArrayList<>(batchSize);
+
+        for (int i = 0; i < users + partners; i++) {
+            boolean partner = i >= users;
+            String userId = partner ? partner(i - users) : user(i);
+
+            rows.add(new Object[]{firstMemberId + i, userId, password, userId,
+                    String.format("010-%04d-%04d", i / 10_000 % 10_000, i % 10_000),
+                    (partner ? MemberType.ROLE_PARTNER : MemberType.ROLE_USER).name(), createdAt, createdAt});
+
+            if (rows.size() == batchSize) {
+                insertMemberRows(rows);
+            }
+        }
+
+        insertMemberRows(rows);
+        log.info("회원 생성 완료 - 사용자 {}명, 파트너 {}명", users, partners);
+    }
+
+    private void insertMemberRows(List<Object[]> rows) {
+        batchUpdate("INSERT INTO member (id, user_id, password, name, phone, member_type, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    // 매장마다 30분 단위의 영업시간을 정하고, 1분 단위 예약 자리 계산에 쓰도록 보관한다.
+    private StoreHours insertStores(long firstStoreId, SplittableRandom random, Timestamp createdAt) {
+        StoreHours hours = new StoreHours(stores);
+        List<Object[]> rows = new ArrayList<>(batchSize);
+
+        for (int i = 0; i < stores; i++) {
+            // 07:00 ~ 11:30 에 열고 8 ~ 14시간 영업, 23:30 이후로는 넘기지 않는다.
+            int openMinutes = 7 * 60 + random.nextInt(10) * 30;
+            int closeMinutes = Math.min(openMinutes + (8 + random.nextInt(7)) * 60, 23 * 60 + 30);
+            hours.set(i, openMinutes, closeMinutes);
+
+            String prefix = NAME_PREFIXES[random.nextInt(NAME_PREFIXES.length)];
+            String district = DISTRICTS[random.nextInt(DISTRICTS.length)];
+
+            String address = "서울시 " + district + " " + (i + 1) + "번길";
+            String contact = String.format("02-%04d-%04d", i / 10_000 % 10_000, i % 10_000);
+
+            rows.add(new Object[]{firstStoreId + i, partner(i % partners), prefix + " " + i + "호점",
+                    address, prefix + " 전문점", contact, StoreIdentityUtils.key(address, contact),
+                    LocalTime.ofSecondOfDay(openMinutes * 60L), LocalTime.ofSecondOfDay(closeMinutes * 60L),
+                    createdAt, createdAt});
+
+            if (rows.size() == batchSize) {
+                insertStoreRows(rows);
+            }
+        }
+
+        insertStoreRows(rows);
+        log.info("매장 생성 완료 - {}개", stores);
+
+        return hours;
+    }
+
+    private void insertStoreRows(List<Object[]> rows) {
+        batchUpdate("INSERT INTO store (id, owner, name, address, description, contact, identity_key, open, close, "
+                + "rating, rating_sum, review_count, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0, ?, ?)", rows);
+    }
+
+    /**
+     * 예약은 Zipf 분포로 고른 매장의 다음 빈 자리에 만든다.
+     * 매장의 k 번째 예약은 (k % 기간 일수) 번째 날의 (k / 기간 일수) 번째 분이므로 예약이 기간 전체에 고르게 퍼지고 (매장, 시간)이 겹치지 않는다.
+     */
+    private void insertReservationsAndReviews(long firstMemberId, long firstStoreId, StoreHours hours,
+                                              SplittableRandom random, LocalDateTime now) {
+        ZipfSampler sampler = new ZipfSampler(stores, zipfExponent, random.split());
+        LocalDateTime firstDay = now.minusDays(pastDays);
+        int days = pastDays + futureDays;
+
+        int[] taken = new int[stores];
+        double[] ratingSum = new double[stores];
+        int[] reviewCount = new int[stores];
+
+        long firstReservationId = nextId("reservation");
+        long nextReviewId = nextId("review");
+
+        List<Object[]> reservationRows = new ArrayList<>(batchSize);
+        List<Object[]> reviewRows = new ArrayList<>(batchSize);
+        long created = 0;
+
+        for (long i = 0; i < reservations; i++) {
+            int store = hours.nextAvailable(sampler.next(), sampler, taken, days);
+
+            if (store < 0) {
+                log.warn("모든 매장의 예약 자리가 찼습니다. - {}건 생성", created);
+                break;
+            }
+
+            int k = taken[store]++;
+            LocalDateTime reservationDate = firstDay.plusDays(k % days)
+                    .plusMinutes(hours.open(store) + k / days);
+
+            int member = random.nextInt(users);
+            long reservationId = firstReservationId + i;
+            ReservationStatus status;
+            boolean visited = false;
+
+            if (reservationDate.isBefore(now)) {
+                int roll = random.nextInt(100);
+                status = roll < 70 ? APPROVAL : roll < 80 ? NO_SHOW : roll < 90 ? REFUSAL : EXPIRED;
+                visited = status == APPROVAL;
+
+                // 방문한 예약의 일부는 리뷰 작성, 평점은 4, 5점이 많도록 치우친다.
+                if (visited && random.nextDouble() < reviewRatio) {
+                    double rating = Math.max(1, 5 - Math.floor(-Math.log(1 - random.nextDouble()) * 1.2));
+                    Timestamp reviewedAt = Timestamp.valueOf(reservationDate.plusHours(2 + random.nextInt(72)));
+
+                    status = REVIEWED;
+                    ratingSum[store] += rating;
+                    reviewCount[store]++;
+
+                    reviewRows.add(new Object[]{nextReviewId++, firstMemberId + member, firstStoreId + store,
+                            reservationId, "리뷰 " + reservationId, rating, reviewedAt, reviewedAt});
+                }
+            } else {
+                status = random.nextBoolean() ? WAITING : APPROVAL;
+            }
+
+            reservationRows.add(new Object[]{reservationId, firstMemberId + member, firstStoreId + store,
+                    visited, Timestamp.valueOf(reservationDate), status.name()});
+            created++;
+
+            if (reservationRows.size() == batchSize || reviewRows.size() == batchSize) {
+                flushReservations(reservationRows, reviewRows);
+            }
+
+            if (created % 1_000_000 == 0) {
+                log.info("예약 생성 중 - {}건", created);
+            }
+        }
+
+        flushReservations(reservationRows, reviewRows);
+        updateStoreRatings(firstStoreId, ratingSum, reviewCount);
+
+        log.info("예약 생성 완료 - {}건", created);
+    }
+
+    // 리뷰가 예약을 참조하므로 예약을 먼저 저장
+    private void flushReservations(List<Object[]> reservationRows, List<Object[]> reviewRows) {
+        batchUpdate("INSERT INTO reservation (id, member_id, store_id, visit_yn, reservation_date, reservation_status) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", reservationRows);
+        batchUpdate("INSERT INTO review (id, member_id, store_id, reservation_id, content, rating, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", reviewRows);
+    }
+
+    private void updateStoreRatings(long firstStoreId, double[] ratingSum, int[] reviewCount) {
+        List<Object[]> rows = new ArrayList<>(batchSize);
+
+        for (int i = 0; i < stores; i++) {
+            if (reviewCount[i] == 0) {
+                continue;
+            }
+
+            double rating = (double) Math.round(ratingSum[i] / reviewCount[i] * 10) / 10;
+            rows.add(new Object[]{ratingSum[i], reviewCount[i], rating, firstStoreId + i});
+
+            if (rows.size() == batchSize) {
+                batchUpdate("UPDATE store SET rating_sum = ?, review_count = ?, rating = ? WHERE id = ?", rows);
+            }
+        }
+
+        batchUpdate("UPDATE store SET rating_sum = ?, review_count = ?, rating = ? WHERE id = ?", rows);
+    }
+
+    // 묶음 하나를 하나의 트랜잭션으로 저장하고 목록을 비운다.
+    private void batchUpdate(String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+        rows.clear();
+    }
+
+    /**
+     * 순위가 r 인 매장이 r^-s 에 비례하는 확률로 뽑힌다.
+     * 순위와 매장 번호의 대응은 seed 로 섞어서 인기 매장이 앞 번호에 몰리지 않게 한다.
+     */
+    private static class ZipfSampler {
+        private final double[] cumulative;
+        private final int[] storeByRank;
+        private final SplittableRandom random;
+
+        private ZipfSampler(int size, double exponent, SplittableRandom random) {
+            this.cumulative = new double[size];
+            this.storeByRank = new int[size];
+            this.random = random;
+
+            double sum = 0;
+            for (int rank = 0; rank < size; rank++) {
+                sum += 1 / Math.pow(rank + 1, exponent);
+                cumulative[rank] = sum;
+                storeByRank[rank] = rank;
+            }
+            for (int rank = 0; rank < size; rank++) {
+                cumulative[rank] /= sum;
+            }
+
+            for (int i = size - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int store = storeByRank[i];
+                storeByRank[i] = storeByRank[j];
+                storeByRank[j] = store;
+            }
+        }
+
+        // 뽑힌 순위
+        private int next() {
+            double u = random.nextDouble();
+            int low = 0;
+            int high = cumulative.length - 1;
+
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+
+                if (cumulative[mid] < u) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            return low;
+        }
+
+        private int store(int rank) {
+            return storeByRank[rank];
+        }
+
+        private int size() {
+            return storeByRank.length;
+        }
+    }
+
+    // 매장별 영업시간(자정부터의 분)
+    private static class StoreHours {
+        private final int[] open;
+        private final int[] close;
+
+        private StoreHours(int size) {
+            this.open = new int[size];
+            this.close = new int[size];
+        }
+
+        private void set(int store, int openMinutes, int closeMinutes) {
+            open[store] = openMinutes;
+            close[store] = closeMinutes;
+        }
+
+        private int open(int store) {
+            return open[store];
+        }
+
+        private int capacity(int store, int days) {
+            return (close[store] - open[store]) * days;
+        }
+
+        /**
+         * 뽑힌 순위의 매장에 빈 자리가 없으면 다음 순위의 매장을 찾는다. 모든 매장이 찼으면 -1
+         */
+        private int nextAvailable(int rank, ZipfSampler sampler, int[] taken, int days) {
+            for (int i = 0; i < sampler.size(); i++) {
+                int store = sampler.store((rank + i) % sampler.size());
+
+                if (taken[store] < capacity(store, days)) {
+                    return store;
+                }
+            }
+
+            return -1;
+        }
+    }
+}
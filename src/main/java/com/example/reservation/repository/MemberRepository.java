@@ -1,9 +1,14 @@
 package com.example.reservation.repository;
 
 import com.example.reservation.domain.entity.Member;
+import com.example.reservation.repository.projection.MemberUserId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +17,8 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByUserId(String userId);
 
     boolean existsByUserId(String userId);
+
+    // 아이디 순으로 id 이후의 회원 아이디를 조회, 사용자 아이디 필터 적재용
+    @Query("SELECT m.id AS id, m.userId AS userId FROM Member m WHERE m.id > :id ORDER BY m.id")
+    List<MemberUserId> findUserIdsAfter(@Param("id") Long id, Pageable pageable);
 }
@@ -3,22 +3,152 @@ package com.example.reservation.repository;
 import com.example.reservation.domain.entity.Member;
 import com.example.reservation.domain.entity.Reservation;
 import com.example.reservation.domain.entity.Store;
+import com.example.reservation.repository.projection.ReservationArrival;
+import com.example.reservation.repository.projection.ReservationKey;
+import com.example.reservation.repository.projection.ReservationOwner;
+import com.example.reservation.repository.projection.ReservationSlot;
+import com.example.reservation.type.ReservationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
 
-    Optional<Reservation> findByStoreAndReservationDate(Store store, LocalDateTime reservationDate);
+    // 목록을 DTO 로 변환할 때 연관 엔티티를 하나씩 지연 로딩하지 않도록 fetch join 으로 함께 조회한다.
+    // 엔티티 그래프 힌트를 붙이면 Hibernate 가 실행할 때마다 쿼리 계획을 새로 컴파일하므로 JPQL 에 직접 작성한다.
+    @Query(value = "SELECT r FROM Reservation r LEFT JOIN FETCH r.store LEFT JOIN FETCH r.member " +
+            "WHERE r.member = :member ORDER BY r.reservationDate DESC",
+            countQuery = "SELECT COUNT(r) FROM Reservation r WHERE r.member = :member")
+    Page<Reservation> findAllByMemberOrderByReservationDateDesc(@Param("member") Member member, Pageable pageable);
 
-    Page<Reservation> findAllByMemberOrderByReservationDateDesc(Member member, Pageable pageable);
-
-    Page<Reservation> findAllByStoreOrderByReservationDate(Store store, Pageable pageable);
+    @Query(value = "SELECT r FROM Reservation r LEFT JOIN FETCH r.member " +
+            "WHERE r.store = :store AND r.reservationDate BETWEEN :start AND :end ORDER BY r.reservationDate",
+            countQuery = "SELECT COUNT(r) FROM Reservation r WHERE r.store = :store AND r.reservationDate BETWEEN :start AND :end")
+    Page<Reservation> findAllByStoreAndReservationDateBetweenOrderByReservationDate(@Param("store") Store store,
+                                                                                  @Param("start") LocalDateTime start,
+                                                                                  @Param("end") LocalDateTime end,
+                                                                                  Pageable pageable);
 
     Optional<Reservation> findByStoreAndMember(Store store, Member member);
+
+    // 예약자 정보와 함께 조회, 키오스크 방문 확인용
+    @Query("SELECT r FROM Reservation r LEFT JOIN FETCH r.member WHERE r.id = :id")
+    Optional<Reservation> findWithMemberById(@Param("id") Long id);
+
+    // 커서 기반 페이징, (예약 시간, 아이디) 기준으로 마지막 행 다음부터 조회하고 count 쿼리는 실행하지 않는다.
+    @Query("SELECT r FROM Reservation r LEFT JOIN FETCH r.store LEFT JOIN FETCH r.member WHERE r.member = :member ORDER BY r.reservationDate DESC, r.id DESC")
+    List<Reservation> findPageByMember(@Param("member") Member member, Pageable pageable);
+
+    @Query("SELECT r FROM Reservation r LEFT JOIN FETCH r.store LEFT JOIN FETCH r.member WHERE r.member = :member " +
+            "AND (r.reservationDate < :reservationDate OR (r.reservationDate = :reservationDate AND r.id < :id)) " +
+            "ORDER BY r.reservationDate DESC, r.id DESC")
+    List<Reservation> findPageByMemberAfter(@Param("member") Member member,
+                                            @Param("reservationDate") LocalDateTime reservationDate,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    @Query("SELECT r FROM Reservation r LEFT JOIN FETCH r.member WHERE r.store = :store AND r.reservationDate BETWEEN :start AND :end " +
+            "ORDER BY r.reservationDate, r.id")
+    List<Reservation> findPageByStoreAndDate(@Param("store") Store store,
+                                             @Param("start") LocalDateTime start,
+                                             @Param("end") LocalDateTime end,
+                                             Pageable pageable);
+
+    @Query("SELECT r FROM Reservation r LEFT JOIN FETCH r.member WHERE r.store = :store AND r.reservationDate BETWEEN :start AND :end " +
+            "AND (r.reservationDate > :reservationDate OR (r.reservationDate = :reservationDate AND r.id > :id)) " +
+            "ORDER BY r.reservationDate, r.id")
+    List<Reservation> findPageByStoreAndDateAfter(@Param("store") Store store,
+                                                  @Param("start") LocalDateTime start,
+                                                  @Param("end") LocalDateTime end,
+                                                  @Param("reservationDate") LocalDateTime reservationDate,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    @Query("SELECT r.store.id AS storeId, r.reservationDate AS reservationDate FROM Reservation r " +
+            "WHERE r.reservationDate >= :from")
+    List<ReservationSlot> findAllSlotsFrom(@Param("from") LocalDateTime from);
+
+    // 예약 장부와 같은 분 단위로 해당 시간의 예약 존재 여부 확인, 장부에만 남아있는 시간인지 확인용
+    @Query("SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END FROM Reservation r " +
+            "WHERE r.store.id = :storeId AND r.reservationDate >= :from AND r.reservationDate < :to")
+    boolean existsSlot(@Param("storeId") Long storeId,
+                       @Param("from") LocalDateTime from,
+                       @Param("to") LocalDateTime to);
+
+    // 예약 번호 목록의 매장 점장과 예약 상태를 한 번에 조회, 상태를 변경하는 동안 다른 요청이 바꾸지 못하도록 잠근다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r.id AS reservationId, s.owner AS owner, r.reservationStatus AS reservationStatus, r.visitYn AS visitYn " +
+            "FROM Reservation r JOIN r.store s WHERE r.id IN :ids")
+    List<ReservationOwner> findOwnersByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    // 변경 가능한 상태의 방문 전 예약만 한 번의 UPDATE 문으로 변경, 영속성 컨텍스트에 남은 예약은 비운다.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.reservationStatus = :status " +
+            "WHERE r.id IN :ids AND r.reservationStatus IN :changeableStatuses AND r.visitYn = false")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("changeableStatuses") Collection<ReservationStatus> changeableStatuses,
+                           @Param("status") ReservationStatus status);
+
+    // 기간이 지난 미방문 예약을 (예약 시간, 아이디) 순으로 조회, 정리 작업에서 키셋 방식으로 나눠서 처리한다.
+    @Query("SELECT r.id AS id, r.reservationDate AS reservationDate FROM Reservation r " +
+            "WHERE r.reservationStatus = :status AND r.visitYn = false AND r.reservationDate < :cutoff " +
+            "ORDER BY r.reservationDate, r.id")
+    List<ReservationKey> findUnvisitedKeys(@Param("status") ReservationStatus status,
+                                           @Param("cutoff") LocalDateTime cutoff,
+                                           Pageable pageable);
+
+    @Query("SELECT r.id AS id, r.reservationDate AS reservationDate FROM Reservation r " +
+            "WHERE r.reservationStatus = :status AND r.visitYn = false AND r.reservationDate < :cutoff " +
+            "AND (r.reservationDate > :reservationDate OR (r.reservationDate = :reservationDate AND r.id > :id)) " +
+            "ORDER BY r.reservationDate, r.id")
+    List<ReservationKey> findUnvisitedKeysAfter(@Param("status") ReservationStatus status,
+                                                @Param("cutoff") LocalDateTime cutoff,
+                                                @Param("reservationDate") LocalDateTime reservationDate,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    // 조회 이후 상태가 바뀌었거나 방문 처리된 예약은 변경하지 않는다.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.reservationStatus = :to " +
+            "WHERE r.id IN :ids AND r.reservationStatus = :from AND r.visitYn = false")
+    int updateUnvisitedStatusByIdIn(@Param("ids") Collection<Long> ids,
+                                    @Param("from") ReservationStatus from,
+                                    @Param("to") ReservationStatus to);
+
+    // 기간 안의 승인된 예약과 예약자 정보, 키오스크 방문 확인용
+    @Query("SELECT r.id AS reservationId, r.store.id AS storeId, r.reservationDate AS reservationDate, r.visitYn AS visitYn, " +
+            "m.userId AS userId, m.name AS name, m.phone AS phone " +
+            "FROM Reservation r JOIN r.member m " +
+            "WHERE r.reservationStatus = :status AND r.reservationDate >= :start AND r.reservationDate < :end")
+    List<ReservationArrival> findArrivals(@Param("status") ReservationStatus status,
+                                          @Param("start") LocalDateTime start,
+                                          @Param("end") LocalDateTime end);
+
+    @Query("SELECT r.id AS reservationId, r.store.id AS storeId, r.reservationDate AS reservationDate, r.visitYn AS visitYn, " +
+            "m.userId AS userId, m.name AS name, m.phone AS phone " +
+            "FROM Reservation r JOIN r.member m " +
+            "WHERE r.id IN :ids AND r.reservationStatus = :status")
+    List<ReservationArrival> findArrivalsByIdIn(@Param("ids") Collection<Long> ids,
+                                                @Param("status") ReservationStatus status);
+
+    // 방문 확인된 예약들을 한 번에 방문 처리, 그 사이 승인 상태가 아니게 된 예약은 변경하지 않는다.
+    @Modifying
+    @Query("UPDATE Reservation r SET r.visitYn = true WHERE r.id IN :ids AND r.reservationStatus = :status")
+    int updateVisitedByIdIn(@Param("ids") Collection<Long> ids, @Param("status") ReservationStatus status);
+
+    // 예약 번호 목록 중 방문 처리된 예약, 방문 처리되지 않은 방문 확인을 찾을 때 사용
+    @Query("SELECT r.id FROM Reservation r WHERE r.id IN :ids AND r.visitYn = true")
+    List<Long> findVisitedIdsIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,10 +1,28 @@
 package com.example.reservation.repository;
 
 import com.example.reservation.domain.entity.Review;
+import com.example.reservation.domain.model.ReviewResponse;
+import com.example.reservation.repository.projection.StoreRatingAggregate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
+    // 매장의 리뷰를 최근 작성 순으로 필요한 컬럼만 조회, count 쿼리는 실행하지 않는다.
+    @Query("SELECT new com.example.reservation.domain.model.ReviewResponse(m.userId, s.name, r.content, r.rating) " +
+            "FROM Review r JOIN r.member m JOIN r.store s " +
+            "WHERE r.store.id = :storeId ORDER BY r.createdAt DESC, r.id DESC")
+    Slice<ReviewResponse> findFeedByStoreId(@Param("storeId") Long storeId, Pageable pageable);
+
+    @Query("SELECT r.store.id AS storeId, SUM(r.rating) AS ratingSum, COUNT(r) AS reviewCount FROM Review r " +
+            "WHERE r.store.id IN :storeIds GROUP BY r.store.id")
+    List<StoreRatingAggregate> aggregateRatingByStoreIds(@Param("storeIds") Collection<Long> storeIds);
 }
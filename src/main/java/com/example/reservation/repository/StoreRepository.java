@@ -4,26 +4,92 @@ import com.example.reservation.domain.entity.Store;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface StoreRepository extends JpaRepository<Store, Long> {
-    Optional<Store> findByAddressAndContact(String address, String contact);
+    // 같은 매장 여부 확인, identity_key 유니크 인덱스 한 번 조회
+    boolean existsByIdentityKey(String identityKey);
+
+    // 매장 정보 수정 시 자기 자신은 제외하고 확인
+    boolean existsByIdentityKeyAndIdNot(String identityKey, Long id);
+
+    // 식별 키 목록 중 이미 등록된 키, 일괄 등록 시 중복 확인용
+    @Query("SELECT s.identityKey FROM Store s WHERE s.identityKey IN :identityKeys")
+    List<String> findIdentityKeysIn(@Param("identityKeys") Collection<String> identityKeys);
+
+    // 식별 키가 없는 매장, 식별 키 추가 전에 등록된 매장의 키 생성용
+    @Query("SELECT s FROM Store s WHERE s.identityKey IS NULL AND s.id > :lastId ORDER BY s.id")
+    List<Store> findWithoutIdentityKeyAfter(@Param("lastId") Long lastId, Pageable pageable);
 
     List<Store> findByNameStartsWith(@Param("name") String name);
 
-    Page<Store> findAllByOrderByName(Pageable pageable);
+    Page<Store> findAllByOrderByNameAscIdAsc(Pageable pageable);
 
     List<Store> findByOwner(String owner);
 
-    Page<Store> findAllByOrderByRatingDesc(Pageable pageable);
+    Page<Store> findAllByOrderByRatingDescIdDesc(Pageable pageable);
+
+    Page<Store> findAllByOrderByReviewCountDescIdDesc(Pageable pageable);
+
+    // 커서 기반 페이징, (정렬 키, 아이디) 기준으로 마지막 행 다음부터 조회하고 count 쿼리는 실행하지 않는다.
+    @Query("SELECT s FROM Store s ORDER BY s.name, s.id")
+    List<Store> findPageOrderByName(Pageable pageable);
+
+    @Query("SELECT s FROM Store s WHERE s.name > :name OR (s.name = :name AND s.id > :id) ORDER BY s.name, s.id")
+    List<Store> findPageOrderByNameAfter(@Param("name") String name, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT s FROM Store s ORDER BY s.rating DESC, s.id DESC")
+    List<Store> findPageOrderByRating(Pageable pageable);
+
+    @Query("SELECT s FROM Store s WHERE s.rating < :rating OR (s.rating = :rating AND s.id < :id) " +
+            "ORDER BY s.rating DESC, s.id DESC")
+    List<Store> findPageOrderByRatingAfter(@Param("rating") Double rating, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT s FROM Store s ORDER BY s.reviewCount DESC, s.id DESC")
+    List<Store> findPageOrderByReviewCount(Pageable pageable);
+
+    @Query("SELECT s FROM Store s WHERE s.reviewCount < :reviewCount OR (s.reviewCount = :reviewCount AND s.id < :id) " +
+            "ORDER BY s.reviewCount DESC, s.id DESC")
+    List<Store> findPageOrderByReviewCountAfter(@Param("reviewCount") Integer reviewCount, @Param("id") Long id,
+                                                Pageable pageable);
+
+    // 평점 집계 값을 갱신할 때 동시에 작성된 리뷰의 변경이 유실되지 않도록 매장 행에 락을 건다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Store s WHERE s.id = :id")
+    Optional<Store> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Store s WHERE s.id IN :ids")
+    List<Store> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    List<Store> findAllByIdGreaterThanOrderById(Long id, Pageable pageable);
+
+    @Query("SELECT s.id FROM Store s WHERE s.id > :lastId ORDER BY s.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 평점 합계나 리뷰 개수가 리뷰 테이블과 다른 매장 아이디, 평점 합계는 실수 덧셈 오차를 감안해서 비교
+    @Query("SELECT s.id FROM Store s LEFT JOIN s.reviews r WHERE s.id > :lastId " +
+            "GROUP BY s.id, s.reviewCount, s.ratingSum " +
+            "HAVING s.reviewCount <> COUNT(r) OR ABS(s.ratingSum - COALESCE(SUM(r.rating), 0)) > 0.001 " +
+            "ORDER BY s.id")
+    List<Long> findIdsWithMismatchedRatingAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 이름 순 매장 아이디, 매장 순위 스냅샷을 DB 의 이름 정렬(콜레이션)과 같은 순서로 만들 때 사용
+    @Query("SELECT s.id FROM Store s ORDER BY s.name, s.id")
+    List<Long> findIdsOrderByName();
 
-    @Query("SELECT s FROM Store s LEFT JOIN s.reviews r GROUP BY s.id ORDER BY COUNT(r) DESC")
-    Page<Store> findAllByOrderByReviewCountDesc(Pageable pageable);
+    // 주어진 시각 이후에 등록, 수정된 매장, 다른 서버의 변경을 검색 인덱스에 반영할 때 아이디 순으로 나눠서 조회
+    @Query("SELECT s FROM Store s WHERE s.updatedAt >= :since AND s.id > :lastId ORDER BY s.id")
+    List<Store> findUpdatedSinceAfter(@Param("since") LocalDateTime since, @Param("lastId") Long lastId, Pageable pageable);
 
 }
@@ -0,0 +1,8 @@
+package com.example.reservation.repository.projection;
+
+// 키셋 방식으로 회원을 나눠서 읽을 때 아이디와 사용자 아이디만 조회하기 위한 프로젝션
+public interface MemberUserId {
+    Long getId();
+
+    String getUserId();
+}
@@ -0,0 +1,20 @@
+package com.example.reservation.repository.projection;
+
+import java.time.LocalDateTime;
+
+// 키오스크 방문 확인에 필요한 예약 정보와 예약자 정보만 조회하기 위한 프로젝션
+public interface ReservationArrival {
+    Long getReservationId();
+
+    Long getStoreId();
+
+    LocalDateTime getReservationDate();
+
+    boolean isVisitYn();
+
+    String getUserId();
+
+    String getName();
+
+    String getPhone();
+}
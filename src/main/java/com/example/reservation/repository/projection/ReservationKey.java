@@ -0,0 +1,10 @@
+package com.example.reservation.repository.projection;
+
+import java.time.LocalDateTime;
+
+// 키셋 방식으로 예약을 나눠서 처리할 때 아이디와 예약 시간만 조회하기 위한 프로젝션
+public interface ReservationKey {
+    Long getId();
+
+    LocalDateTime getReservationDate();
+}
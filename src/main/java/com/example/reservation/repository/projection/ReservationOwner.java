@@ -0,0 +1,14 @@
+package com.example.reservation.repository.projection;
+
+import com.example.reservation.type.ReservationStatus;
+
+// 예약 일괄 처리 시 예약 번호와 매장 점장, 변경 가능 여부 확인에 필요한 상태만 조회하기 위한 프로젝션
+public interface ReservationOwner {
+    Long getReservationId();
+
+    String getOwner();
+
+    ReservationStatus getReservationStatus();
+
+    Boolean getVisitYn();
+}
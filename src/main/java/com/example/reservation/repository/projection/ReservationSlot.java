@@ -0,0 +1,10 @@
+package com.example.reservation.repository.projection;
+
+import java.time.LocalDateTime;
+
+// 예약 장부 적재 시 매장 번호와 예약 시간만 조회하기 위한 프로젝션
+public interface ReservationSlot {
+    Long getStoreId();
+
+    LocalDateTime getReservationDate();
+}
@@ -0,0 +1,10 @@
+package com.example.reservation.repository.projection;
+
+// 매장별 리뷰 평점 합계와 리뷰 개수 집계 결과
+public interface StoreRatingAggregate {
+    Long getStoreId();
+
+    Double getRatingSum();
+
+    Long getReviewCount();
+}
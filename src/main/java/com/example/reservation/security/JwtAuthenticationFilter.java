@@ -1,5 +1,6 @@
 package com.example.reservation.security;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -28,11 +29,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String token = resolveTokenFromRequest(request);
 
-        if (StringUtils.hasText(token) && tokenProvider.validateToken(token)) {
-            Authentication auth = tokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(auth);
+        if (StringUtils.hasText(token)) {
+            // 토큰은 요청마다 한 번만 파싱해서 검증, 인증, 로그에 함께 사용한다.
+            Claims claims = tokenProvider.parseClaims(token);
 
-            log.info("[{}] -> {}", tokenProvider.getUsername(token), request.getRequestURI());
+            if (tokenProvider.validateClaims(claims)) {
+                Authentication auth = tokenProvider.getAuthentication(claims);
+                SecurityContextHolder.getContext().setAuthentication(auth);
+
+                log.info("[{}] -> {}", claims.getSubject(), request.getRequestURI());
+            }
         }
 
         filterChain.doFilter(request, response);
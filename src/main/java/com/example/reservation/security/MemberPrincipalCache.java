@@ -0,0 +1,44 @@
+package com.example.reservation.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 인증된 사용자 정보 캐시
+ * 요청마다 사용자 아이디로 회원 정보를 조회하지 않도록 일정 시간동안 보관한다.
+ * 회원 탈퇴 시에는 캐시에서 바로 제거한다.
+ */
+@Component
+public class MemberPrincipalCache {
+
+    private static final long MAXIMUM_SIZE = 10_000;
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private final Cache<String, UserDetails> cache;
+
+    public MemberPrincipalCache(MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(TIME_TO_LIVE)
+                .recordStats()
+                .build();
+
+        // 히트, 미스, 제거 횟수를 메트릭으로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "memberPrincipal");
+    }
+
+    public UserDetails get(String userId, Function<String, UserDetails> loader) {
+        return cache.get(userId, loader);
+    }
+
+    public void invalidate(String userId) {
+        cache.invalidate(userId);
+    }
+}
@@ -2,6 +2,9 @@ package com.example.reservation.security;
 
 import com.example.reservation.service.MemberService;
 import com.example.reservation.type.MemberType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
@@ -14,18 +17,35 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
 public class TokenProvider {
     private static final String MEMBER_TYPE = "memberType";
     private static final long TOKEN_EXPIRE_TIME = 1000 * 60 * 60;
+    private static final long MAX_VERIFIED_TOKENS = 100_000;
 
     @Value("${spring.jwt.secret")
     private String secretKey;
 
+    // 검증된 토큰 캐시 사용 여부, 캐시 없이 매번 서명을 검증하는 경우와 비교할 때 끈다.
+    @Value("${spring.jwt.verified-token-cache.enabled:true}")
+    private boolean verifiedTokenCacheEnabled;
+
     private final MemberService memberService;
+    private final MemberPrincipalCache memberPrincipalCache;
+
+    // 서명 검증이 끝난 토큰의 다이제스트와 클레임, 토큰 만료 시간이 되면 함께 만료된다.
+    private final Cache<String, Claims> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(MAX_VERIFIED_TOKENS)
+            .expireAfter(new TokenExpiry())
+            .build();
 
     public String generateToken(String username, MemberType memberType) {
         Claims claims = Jwts.claims().setSubject(username);
@@ -43,7 +63,12 @@ public class TokenProvider {
     }
 
     public Authentication getAuthentication(String token) {
-        UserDetails userDetails = memberService.loadUserByUsername(getUsername(token));
+        return getAuthentication(parseClaims(token));
+    }
+
+    // 이미 파싱된 토큰 정보로 인증 정보를 만든다. 사용자 정보는 캐시에서 우선 조회
+    public Authentication getAuthentication(Claims claims) {
+        UserDetails userDetails = memberPrincipalCache.get(claims.getSubject(), memberService::loadUserByUsername);
 
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
@@ -57,15 +82,75 @@ public class TokenProvider {
             return false;
         }
 
-        Claims claims = parseClaims(token);
+        return validateClaims(parseClaims(token));
+    }
+
+    public boolean validateClaims(Claims claims) {
         return !claims.getExpiration().before(new Date());
     }
 
-    private Claims parseClaims(String token) {
+    /**
+     * 토큰을 파싱해서 클레임을 리턴
+     * 이미 서명 검증을 마친 토큰이라면 캐시된 클레임을 사용해서 서명 검증과 디코딩을 생략한다.
+     */
+    public Claims parseClaims(String token) {
+        if (!verifiedTokenCacheEnabled) {
+            return verify(token);
+        }
+
+        String digest = digest(token);
+
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = verify(token);
+
+        // 만료된 토큰은 캐시하지 않는다.
+        if (validateClaims(claims)) {
+            verifiedTokens.put(digest, claims);
+        }
+
+        return claims;
+    }
+
+    private Claims verify(String token) {
         try {
             return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
     }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 캐시 항목의 만료 시간을 토큰의 만료 시간에 맞춘다.
+    private static class TokenExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
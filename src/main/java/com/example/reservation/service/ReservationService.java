@@ -1,13 +1,17 @@
 package com.example.reservation.service;
 
+import com.example.reservation.domain.model.CursorResponse;
 import com.example.reservation.domain.model.MessageResponse;
 import com.example.reservation.domain.model.ReservationPartnerResponse;
 import com.example.reservation.domain.model.ReservationRequest;
 import com.example.reservation.domain.model.ReservationResponse;
+import com.example.reservation.domain.model.ReservationStatusBulkRequest;
+import com.example.reservation.domain.model.ReservationStatusResult;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.List;
 
 public interface ReservationService {
     ReservationResponse reserveStore(Long id, ReservationRequest reservationRequest);
@@ -18,10 +22,17 @@ public interface ReservationService {
 
     Page<ReservationResponse> getReservationListForUser(Pageable pageable);
 
+    CursorResponse<ReservationResponse> getReservationListForUserAfter(String after, int size);
+
     Page<ReservationPartnerResponse> getReservationListForPartner(Long storeId, LocalDate date, Pageable pageable);
 
+    CursorResponse<ReservationPartnerResponse> getReservationListForPartnerAfter(Long storeId, LocalDate date,
+                                                                                 String after, int size);
+
     ReservationPartnerResponse approveReservation(Long reservationId);
 
     ReservationPartnerResponse refuseReservation(Long reservationId);
 
+    List<ReservationStatusResult> updateReservationStatuses(ReservationStatusBulkRequest request);
+
 }
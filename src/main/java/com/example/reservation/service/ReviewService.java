@@ -4,8 +4,9 @@ import com.example.reservation.domain.model.MessageResponse;
 import com.example.reservation.domain.model.ReviewRequest;
 import com.example.reservation.domain.model.ReviewResponse;
 import com.example.reservation.domain.model.ReviewUpdateRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
-import java.util.List;
 
 public interface ReviewService {
     ReviewResponse addReview(Long storeId, ReviewRequest reviewRequest);
@@ -14,6 +15,6 @@ public interface ReviewService {
 
     MessageResponse deleteReview(Long reviewId);
 
-    List<ReviewResponse> showReviews(Long storeId);
+    Slice<ReviewResponse> showReviews(Long storeId, Pageable pageable);
 
 }
@@ -0,0 +1,10 @@
+package com.example.reservation.service;
+
+import com.example.reservation.domain.model.StoreImportResponse;
+import com.example.reservation.importer.StoreImportFormat;
+
+import java.io.InputStream;
+
+public interface StoreImportService {
+    StoreImportResponse importStores(InputStream inputStream, StoreImportFormat format);
+}
@@ -1,5 +1,6 @@
 package com.example.reservation.service;
 
+import com.example.reservation.domain.model.CursorResponse;
 import com.example.reservation.domain.model.MessageResponse;
 import com.example.reservation.domain.model.StoreRequest;
 import com.example.reservation.domain.model.StoreResponse;
@@ -21,7 +22,13 @@ public interface StoreService {
 
     Page<StoreResponse> getStoresOrderByReviewCount(Pageable pageable);
 
-    List<StoreResponse> searchStore(String prefix);
+    CursorResponse<StoreResponse> getStoresOrderByNameAfter(String after, int size);
+
+    CursorResponse<StoreResponse> getStoresOrderByRatingAfter(String after, int size);
+
+    CursorResponse<StoreResponse> getStoresOrderByReviewCountAfter(String after, int size);
+
+    List<StoreResponse> searchStore(String prefix, int size);
 
     StoreResponse getStoreDetails(Long id);
 
@@ -1,10 +1,13 @@
 package com.example.reservation.service.impl;
 
+import com.example.reservation.cache.KioskArrivalIndex;
+import com.example.reservation.domain.entity.Member;
 import com.example.reservation.domain.entity.Reservation;
 import com.example.reservation.domain.model.KioskRequest;
 import com.example.reservation.domain.model.MessageResponse;
 import com.example.reservation.exception.ErrorCode;
 import com.example.reservation.exception.ReservationException;
+import com.example.reservation.job.VisitWriteBack;
 import com.example.reservation.repository.ReservationRepository;
 import com.example.reservation.service.KioskService;
 import com.example.reservation.type.ReservationStatus;
@@ -13,44 +16,76 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class KioskServiceImpl implements KioskService {
 
     private final ReservationRepository reservationRepository;
+    private final KioskArrivalIndex kioskArrivalIndex;
+    private final VisitWriteBack visitWriteBack;
 
     /**
      * 예약 10분전에 도착하여 키오스크를 통해서 방문확인을 진행
      * 키오스크 화면에는 사용자 아이디, 이름, 휴대폰 번호를 입력하도록 하고
      * 입력받은 값들을 가지고 예약 확인을 진행한다.
+     * 방문 예정 목록에 있는 예약은 메모리에서 확인하고 방문 처리는 모아서 저장, 목록에 없으면 DB 에서 확인한다.
      */
     @Override
     public MessageResponse confirmVisit(Long reservationId, KioskRequest kioskRequest) {
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new ReservationException(ErrorCode.NOT_FOUND_RESERVATION));
+        // 현재 시간을 HH:mm:00 형태로 변환
+        LocalDateTime now = LocalDateTime.now().withSecond(0).withNano(0);
 
-        validateReservation(kioskRequest, reservation);
+        Optional<KioskArrivalIndex.Arrival> arrival = kioskArrivalIndex.find(reservationId, now);
 
-        reservation.updateVisitYn(true);
-        reservationRepository.save(reservation);
+        if (arrival.isPresent()) {
+            confirmArrival(arrival.get(), kioskRequest, now);
+        } else {
+            confirmReservation(reservationId, kioskRequest, now);
+        }
 
         return MessageResponse.builder()
                 .message("예약 확인이 완료되었습니다.")
                 .build();
     }
 
+    // 방문 예정 목록에 있는 승인된 예약의 방문 확인
+    private void confirmArrival(KioskArrivalIndex.Arrival arrival, KioskRequest kioskRequest, LocalDateTime now) {
+        validateVisitor(kioskRequest, arrival.getUserId(), arrival.getName(), arrival.getPhone());
+
+        if (arrival.isVisited()) {
+            throw new ReservationException(ErrorCode.ALREADY_VISITED_RESERVATION);
+        }
+
+        validateArrivalTime(arrival.getReservationDate(), now);
+
+        // 동시에 들어온 방문 확인 중 하나만 처리
+        if (!arrival.markVisited()) {
+            throw new ReservationException(ErrorCode.ALREADY_VISITED_RESERVATION);
+        }
+
+        visitWriteBack.enqueue(arrival.getReservationId());
+    }
+
+    // 방문 예정 목록에 없는 예약은 DB 에서 조회해서 확인
+    private void confirmReservation(Long reservationId, KioskRequest kioskRequest, LocalDateTime now) {
+        Reservation reservation = reservationRepository.findWithMemberById(reservationId)
+                .orElseThrow(() -> new ReservationException(ErrorCode.NOT_FOUND_RESERVATION));
+
+        validateReservation(kioskRequest, reservation, now);
+
+        reservation.updateVisitYn(true);
+        reservationRepository.save(reservation);
+    }
+
     /**
      * 방문확인 유효성 검증
      */
-    private static void validateReservation(KioskRequest kioskRequest, Reservation reservation) {
+    private static void validateReservation(KioskRequest kioskRequest, Reservation reservation, LocalDateTime now) {
+        Member member = reservation.getMember();
 
-        // 예약자 아이디, 예약자 이름, 예약자 핸드폰 번호를 입력받은 값과 비교
-        if (!Objects.equals(reservation.getMember().getUserId(), kioskRequest.getUserId())
-                || !Objects.equals(reservation.getMember().getName(), kioskRequest.getName())
-                || !Objects.equals(reservation.getMember().getPhone(), kioskRequest.getPhone())) {
-            throw new ReservationException(ErrorCode.UNMATCH_RESERVED_INFORMATION);
-        }
+        validateVisitor(kioskRequest, member.getUserId(), member.getName(), member.getPhone());
 
         // 예약상태가 승인상태가 아닌 경우 예외 발생
         if (reservation.getReservationStatus() != ReservationStatus.APPROVAL) {
@@ -62,16 +97,26 @@ public class KioskServiceImpl implements KioskService {
             throw new ReservationException(ErrorCode.ALREADY_VISITED_RESERVATION);
         }
 
-        // 현재 시간을 HH:mm:00 형태로 변환
-        LocalDateTime now = LocalDateTime.now().withSecond(0).withNano(0);
+        validateArrivalTime(reservation.getReservationDate(), now);
+    }
+
+    // 예약자 아이디, 예약자 이름, 예약자 핸드폰 번호를 입력받은 값과 비교
+    private static void validateVisitor(KioskRequest kioskRequest, String userId, String name, String phone) {
+        if (!Objects.equals(userId, kioskRequest.getUserId())
+                || !Objects.equals(name, kioskRequest.getName())
+                || !Objects.equals(phone, kioskRequest.getPhone())) {
+            throw new ReservationException(ErrorCode.UNMATCH_RESERVED_INFORMATION);
+        }
+    }
 
+    private static void validateArrivalTime(LocalDateTime reservationDate, LocalDateTime now) {
         // 예약시간 10분 전보다 일찍 도착했다면 예외 발생
-        if (now.isBefore(reservation.getReservationDate().minusMinutes(10))) {
+        if (now.isBefore(reservationDate.minusMinutes(10))) {
             throw new ReservationException(ErrorCode.ARRIVE_TOO_EARLY);
         }
 
         // 예약시간 10분 전보다 늦게 도착했다면 예외 발생
-        if (now.plusMinutes(10).isAfter(reservation.getReservationDate())) {
+        if (now.plusMinutes(10).isAfter(reservationDate)) {
             throw new ReservationException(ErrorCode.ARRIVE_TOO_LATE);
         }
     }
@@ -1,5 +1,7 @@
 package com.example.reservation.service.impl;
 
+import com.example.reservation.cache.UserIdBloomFilter;
+import com.example.reservation.concurrent.PasswordHashingExecutor;
 import com.example.reservation.domain.entity.Member;
 import com.example.reservation.domain.entity.Store;
 import com.example.reservation.domain.model.MessageResponse;
@@ -10,26 +12,36 @@ import com.example.reservation.exception.ErrorCode;
 import com.example.reservation.exception.ReservationException;
 import com.example.reservation.repository.MemberRepository;
 import com.example.reservation.repository.StoreRepository;
+import com.example.reservation.security.MemberPrincipalCache;
 import com.example.reservation.service.MemberService;
 import com.example.reservation.utils.LoginCheckUtils;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
 import static com.example.reservation.exception.ErrorCode.*;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MemberServiceImpl implements MemberService, UserDetailsService {
 
     private final MemberRepository memberRepository;
     private final StoreRepository storeRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final UserIdBloomFilter userIdBloomFilter;
+
+    // 로그인 시 약한 강도로 암호화된 비밀번호를 현재 강도로 다시 암호화할지 여부
+    @Value("${auth.password.upgrade-on-login:false}")
+    private boolean upgradeOnLogin;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -39,20 +51,28 @@ public class MemberServiceImpl implements MemberService, UserDetailsService {
 
     /**
      * 정보를 입력받아 회원가입 진행
+     * 사용자 아이디 필터에 확실히 없는 아이디는 DB 중복 확인을 생략하고, 동시에 같은 아이디로 가입하면 유니크 제약으로 걸러낸다.
      */
     @Override
     public SignUpResponse signUp(SignUpRequest signUpRequest) {
-        boolean exists = memberRepository.existsByUserId(signUpRequest.getUserId());
+        String userId = signUpRequest.getUserId();
 
         // 입력받은 아이디가 이미 존재하면 예외 발생
-        if (exists) {
+        if (userIdBloomFilter.mightContain(userId) && memberRepository.existsByUserId(userId)) {
             throw new ReservationException(ErrorCode.ALREADY_USING_ID);
         }
 
-        // 비밀번호는 암호화해서 저장
-        signUpRequest.setPassword(passwordEncoder.encode(signUpRequest.getPassword()));
+        // 비밀번호는 암호화 전용 스레드 풀에서 암호화해서 저장
+        signUpRequest.setPassword(passwordHashingExecutor.encode(signUpRequest.getPassword()));
 
-        memberRepository.save(signUpRequest.toEntity());
+        try {
+            memberRepository.save(signUpRequest.toEntity());
+        } catch (DataIntegrityViolationException e) {
+            userIdBloomFilter.put(userId);
+            throw new ReservationException(ErrorCode.ALREADY_USING_ID);
+        }
+
+        userIdBloomFilter.put(userId);
 
         return SignUpResponse.builder()
                 .userId(signUpRequest.getUserId())
@@ -72,13 +92,27 @@ public class MemberServiceImpl implements MemberService, UserDetailsService {
         Member member = memberRepository.findByUserId(signInRequest.getUserId())
                 .orElseThrow(() -> new ReservationException(NOT_FOUND_MEMBER));
 
-        if (!passwordEncoder.matches(signInRequest.getPassword(), member.getPassword())) {
+        if (!passwordHashingExecutor.matches(signInRequest.getPassword(), member.getPassword())) {
             throw new ReservationException(PASSWORD_UNMATCH);
         }
 
+        if (upgradeOnLogin && passwordHashingExecutor.upgradeEncoding(member.getPassword())) {
+            upgradePassword(member, signInRequest.getPassword());
+        }
+
         return member;
     }
 
+    // 비밀번호를 알고 있는 로그인 시점에만 현재 강도로 다시 암호화할 수 있다. 실패해도 로그인은 성공으로 처리
+    private void upgradePassword(Member member, String rawPassword) {
+        try {
+            member.updatePassword(passwordHashingExecutor.encode(rawPassword));
+            memberRepository.save(member);
+        } catch (RuntimeException e) {
+            log.warn("{} 사용자 비밀번호 재암호화 실패 - 다음 로그인 시 다시 시도", member.getUserId(), e);
+        }
+    }
+
     /**
      * 회원 탈퇴
      * 상점의 점장인 경우 상점을 먼저 삭제해야 탈퇴할 수 있다.
@@ -104,6 +138,9 @@ public class MemberServiceImpl implements MemberService, UserDetailsService {
 
         memberRepository.delete(member);
 
+        // 탈퇴한 사용자의 토큰으로 더 이상 인증되지 않도록 캐시에서 제거
+        memberPrincipalCache.invalidate(member.getUserId());
+
         return MessageResponse.builder()
                 .message("회원 탈퇴 완료!")
                 .build();
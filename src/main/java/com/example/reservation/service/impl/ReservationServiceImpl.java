@@ -1,29 +1,47 @@
 package com.example.reservation.service.impl;
 
+import com.example.reservation.cache.KioskArrivalIndex;
+import com.example.reservation.cache.ReservationSlotLedger;
+import com.example.reservation.concurrent.ReservationAdmission;
 import com.example.reservation.domain.entity.Member;
 import com.example.reservation.domain.entity.Reservation;
 import com.example.reservation.domain.entity.Store;
+import com.example.reservation.domain.model.CursorResponse;
 import com.example.reservation.domain.model.MessageResponse;
 import com.example.reservation.domain.model.ReservationPartnerResponse;
 import com.example.reservation.domain.model.ReservationRequest;
 import com.example.reservation.domain.model.ReservationResponse;
+import com.example.reservation.domain.model.ReservationStatusBulkRequest;
+import com.example.reservation.domain.model.ReservationStatusResult;
+import com.example.reservation.exception.ErrorCode;
 import com.example.reservation.exception.ReservationException;
 import com.example.reservation.repository.MemberRepository;
 import com.example.reservation.repository.ReservationRepository;
 import com.example.reservation.repository.StoreRepository;
+import com.example.reservation.repository.projection.ReservationOwner;
 import com.example.reservation.service.ReservationService;
+import com.example.reservation.type.ReservationStatus;
+import com.example.reservation.utils.CursorUtils;
 import com.example.reservation.utils.LoginCheckUtils;
+import com.example.reservation.utils.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.example.reservation.exception.ErrorCode.*;
@@ -33,9 +51,17 @@ import static com.example.reservation.type.ReservationStatus.*;
 @RequiredArgsConstructor
 public class ReservationServiceImpl implements ReservationService {
 
+    private static final int MAX_BULK_SIZE = 500;
+
+    // 일괄 승인, 거절할 수 있는 예약 상태, 리뷰 작성, 기간 만료, 노쇼 처리된 예약은 변경하지 않는다.
+    private static final Set<ReservationStatus> CHANGEABLE_STATUSES = EnumSet.of(WAITING, APPROVAL, REFUSAL);
+
     private final ReservationRepository reservationRepository;
     private final StoreRepository storeRepository;
     private final MemberRepository memberRepository;
+    private final ReservationSlotLedger slotLedger;
+    private final ReservationAdmission reservationAdmission;
+    private final KioskArrivalIndex kioskArrivalIndex;
 
     /**
      * 매장 예약
@@ -57,22 +83,16 @@ public class ReservationServiceImpl implements ReservationService {
         Member member = getMember(userId);
         Store store = getStore(id);
 
-        Optional<Reservation> reservationOptional
-                = reservationRepository.findByStoreAndReservationDate(store, reservationRequest.getReservationDate());
-
         // 한 매장의 같은 시간에 예약이 있다면 예외 발생
         // 우선적으로 동일한 시간에 대해서만 예외 처리를 함
         // 어차피 점장이 예약 승인, 거절을 할 수 있기 때문에 동일한 시간을 제외하고는 점장 판단하에 처리하도록
-        if (reservationOptional.isPresent()) {
-            throw new ReservationException(ALREADY_RESERVED_TIME);
-        }
-
-        reservationRepository.save(Reservation.builder()
-                .member(member)
-                .store(store)
-                .reservationDate(reservationRequest.getReservationDate())
-                .reservationStatus(WAITING)
-                .build());
+        reservationAdmission.admit(store.getId(), reservationRequest.getReservationDate(),
+                () -> reservationRepository.saveAndFlush(Reservation.builder()
+                        .member(member)
+                        .store(store)
+                        .reservationDate(reservationRequest.getReservationDate())
+                        .reservationStatus(WAITING)
+                        .build()));
 
         return ReservationResponse.builder()
                 .storeName(store.getName())
@@ -110,18 +130,21 @@ public class ReservationServiceImpl implements ReservationService {
             throw new ReservationException(CANNOT_UPDATE_RESERVATION);
         }
 
-        Optional<Reservation> reservationOptional
-                = reservationRepository.findByStoreAndReservationDate(reservation.getStore(), reservationRequest.getReservationDate());
+        Long storeId = reservation.getStore().getId();
+        LocalDateTime previousDate = reservation.getReservationDate();
 
         // 한 매장의 같은 시간에 예약이 있다면 예외 발생
-        if (reservationOptional.isPresent()) {
-            throw new ReservationException(ALREADY_RESERVED_TIME);
-        }
-
         // 변경된 시간으로 예약을 변경하고 상태를 다시 대기상태로 바꾼다.
-        reservation.updateReservation(reservationRequest.getReservationDate());
+        reservationAdmission.admit(storeId, reservationRequest.getReservationDate(), () -> {
+            reservation.updateReservation(reservationRequest.getReservationDate());
+            return reservationRepository.saveAndFlush(reservation);
+        });
 
-        reservationRepository.save(reservation);
+        // 변경 전 예약 시간은 다시 예약 가능하도록 해제
+        slotLedger.release(storeId, previousDate);
+
+        // 다시 승인 대기 상태가 되므로 키오스크 방문 예정 목록에서 제거
+        kioskArrivalIndex.remove(reservationId);
 
         return ReservationResponse.builder()
                 .storeName(reservation.getStore().getName())
@@ -159,6 +182,8 @@ public class ReservationServiceImpl implements ReservationService {
         }
 
         reservationRepository.delete(reservation);
+        slotLedger.release(reservation.getStore().getId(), reservation.getReservationDate());
+        kioskArrivalIndex.remove(reservationId);
 
         return MessageResponse.builder()
                 .message("예약 취소 완료!")
@@ -171,15 +196,7 @@ public class ReservationServiceImpl implements ReservationService {
      */
     @Override
     public Page<ReservationResponse> getReservationListForUser(Pageable pageable) {
-        String userId = LoginCheckUtils.getUserId();
-        List<String> authorities = LoginCheckUtils.getAuthorities();
-
-        // 사용자 권한이 없으면 예외 발생
-        if (!authorities.contains("ROLE_USER")) {
-            throw new ReservationException(ONLY_FOR_USER);
-        }
-
-        Member member = getMember(userId);
+        Member member = getLoginUser();
 
         // 사용자가 예약한 예약 내역을 최근에 예약한것부터 리스트로 보여준다.
         Page<Reservation> memberReservationPage = reservationRepository.findAllByMemberOrderByReservationDateDesc(member, pageable);
@@ -188,38 +205,67 @@ public class ReservationServiceImpl implements ReservationService {
     }
 
     /**
-     * 예약 내역 - 파트너
+     * 예약 내역 - 사용자 (커서 기반)
+     * 마지막으로 조회한 예약의 (예약 시간, 아이디) 다음부터 조회한다.
      */
     @Override
-    public Page<ReservationPartnerResponse> getReservationListForPartner(Long storeId, LocalDate date, Pageable pageable) {
-        List<String> authorities = LoginCheckUtils.getAuthorities();
-        String userId = LoginCheckUtils.getUserId();
-
-        // 파트너 권한이 없으면 예외 발생
-        if (!authorities.contains("ROLE_PARTNER")) {
-            throw new ReservationException(ONLY_FOR_PARTNER);
+    public CursorResponse<ReservationResponse> getReservationListForUserAfter(String after, int size) {
+        Member member = getLoginUser();
+        int pageSize = CursorUtils.pageSize(size);
+
+        List<Reservation> reservations;
+
+        if (StringUtils.hasText(after)) {
+            CursorUtils.Cursor cursor = CursorUtils.decode(after);
+            reservations = reservationRepository.findPageByMemberAfter(member,
+                    cursor.getSortKeyAsDateTime(), cursor.getId(), CursorUtils.lookAhead(pageSize));
+        } else {
+            reservations = reservationRepository.findPageByMember(member, CursorUtils.lookAhead(pageSize));
         }
 
-        Store store = getStore(storeId);
-        Member member = getMember(userId);
+        return CursorResponse.of(reservations, pageSize, ReservationResponse::fromEntity,
+                reservation -> CursorUtils.encode(reservation.getReservationDate(), reservation.getId()));
+    }
 
-        // 매장의 점장과, 로그인한 사용자의 아이디가 같아야 해당 매장의 점장임을 확인할 수 있음
-        // 다르다면 예외 발생
-        if (!Objects.equals(store.getOwner(), member.getUserId())) {
-            throw new ReservationException(SERVICE_ONLY_FOR_OWNER);
-        }
+    /**
+     * 예약 내역 - 파트너
+     */
+    @Override
+    public Page<ReservationPartnerResponse> getReservationListForPartner(Long storeId, LocalDate date, Pageable pageable) {
+        Store store = getOwnedStore(storeId);
 
-        Page<Reservation> storeReservationPage = reservationRepository.findAllByStoreOrderByReservationDate(store, pageable);
+        // 입력받은 날짜의 시작부터 끝까지의 예약 내역만 DB 에서 페이징해서 가져온다.
+        Page<Reservation> storeReservationPage = reservationRepository.findAllByStoreAndReservationDateBetweenOrderByReservationDate(
+                store, date.atStartOfDay(), date.atTime(LocalTime.MAX), pageable);
 
-        // 입력받은 날짜를 통해 예약 내역에서 동일한 날짜를 가지는 예약 내역만 리스트로 가져온다.
-        List<Reservation> filteredReservations = storeReservationPage.stream().filter(
-                srp -> srp.getReservationDate().getYear() == date.getYear() &&
-                        srp.getReservationDate().getMonth() == date.getMonth() &&
-                        srp.getReservationDate().getDayOfMonth() == date.getDayOfMonth()).collect(Collectors.toList());
+        return ReservationPartnerResponse.toDtoList(storeReservationPage);
+    }
 
-        Page<Reservation> filteredPage = new PageImpl<>(filteredReservations, pageable, filteredReservations.size());
+    /**
+     * 예약 내역 - 파트너 (커서 기반)
+     * 입력받은 날짜의 예약 중 마지막으로 조회한 예약의 (예약 시간, 아이디) 다음부터 조회한다.
+     */
+    @Override
+    public CursorResponse<ReservationPartnerResponse> getReservationListForPartnerAfter(Long storeId, LocalDate date,
+                                                                                        String after, int size) {
+        Store store = getOwnedStore(storeId);
+        int pageSize = CursorUtils.pageSize(size);
+
+        LocalDateTime start = date.atStartOfDay();
+        LocalDateTime end = date.atTime(LocalTime.MAX);
+
+        List<Reservation> reservations;
+
+        if (StringUtils.hasText(after)) {
+            CursorUtils.Cursor cursor = CursorUtils.decode(after);
+            reservations = reservationRepository.findPageByStoreAndDateAfter(store, start, end,
+                    cursor.getSortKeyAsDateTime(), cursor.getId(), CursorUtils.lookAhead(pageSize));
+        } else {
+            reservations = reservationRepository.findPageByStoreAndDate(store, start, end, CursorUtils.lookAhead(pageSize));
+        }
 
-        return ReservationPartnerResponse.toDtoList(filteredPage);
+        return CursorResponse.of(reservations, pageSize, ReservationPartnerResponse::fromEntity,
+                reservation -> CursorUtils.encode(reservation.getReservationDate(), reservation.getId()));
     }
 
     /**
@@ -249,6 +295,9 @@ public class ReservationServiceImpl implements ReservationService {
         reservation.updateStatus(APPROVAL);
         Reservation savedReservation = reservationRepository.save(reservation);
 
+        // 커밋 이후 키오스크 방문 예정 목록에 추가
+        TransactionUtils.afterCommit(() -> kioskArrivalIndex.put(savedReservation));
+
         return ReservationPartnerResponse.builder()
                 .memberName(savedReservation.getMember().getName())
                 .phone(savedReservation.getMember().getPhone())
@@ -284,6 +333,9 @@ public class ReservationServiceImpl implements ReservationService {
         reservation.updateStatus(REFUSAL);
         Reservation savedReservation = reservationRepository.save(reservation);
 
+        // 승인했던 예약을 거절한 경우 커밋 이후 키오스크 방문 예정 목록에서 제거
+        TransactionUtils.afterCommit(() -> kioskArrivalIndex.remove(reservationId));
+
         return ReservationPartnerResponse.builder()
                 .memberName(savedReservation.getMember().getName())
                 .phone(savedReservation.getMember().getPhone())
@@ -292,6 +344,127 @@ public class ReservationServiceImpl implements ReservationService {
                 .build();
     }
 
+    /**
+     * 예약 일괄 승인, 거절
+     * 요청한 예약들의 점장과 상태를 한 번에 조회해서 확인하고, 로그인한 파트너의 매장 예약만 하나의 UPDATE 문으로 변경한다.
+     * 예약이 없거나 다른 매장의 예약인 경우, 이미 방문했거나 리뷰 작성, 기간 만료, 노쇼 처리된 예약인 경우
+     * 해당 예약만 제외하고 예약별 처리 결과를 요청 순서대로 리턴한다.
+     */
+    @Override
+    @Transactional
+    public List<ReservationStatusResult> updateReservationStatuses(ReservationStatusBulkRequest request) {
+        List<String> authorities = LoginCheckUtils.getAuthorities();
+        String userId = LoginCheckUtils.getUserId();
+
+        // 파트너 권한이 없는 경우
+        if (!authorities.contains("ROLE_PARTNER")) {
+            throw new ReservationException(ONLY_FOR_PARTNER);
+        }
+
+        ReservationStatus status = request.getReservationStatus();
+
+        // 일괄 처리는 승인, 거절만 가능
+        if (status != APPROVAL && status != REFUSAL) {
+            throw new ReservationException(INVALID_REQUEST);
+        }
+
+        Set<Long> reservationIds = new LinkedHashSet<>(request.getReservationIds());
+
+        if (reservationIds.size() > MAX_BULK_SIZE) {
+            throw new ReservationException(INVALID_REQUEST);
+        }
+
+        // 변경이 끝날 때까지 예약을 잠가서 조회한 상태와 UPDATE 대상이 달라지지 않도록 한다.
+        Map<Long, ReservationOwner> owners = reservationRepository.findOwnersByIdInForUpdate(reservationIds).stream()
+                .collect(Collectors.toMap(ReservationOwner::getReservationId, Function.identity()));
+
+        List<Long> changeableIds = new ArrayList<>();
+        List<ReservationStatusResult> results = new ArrayList<>(reservationIds.size());
+
+        for (Long reservationId : reservationIds) {
+            ErrorCode errorCode = validateStatusChange(owners.get(reservationId), userId);
+
+            if (errorCode != null) {
+                results.add(ReservationStatusResult.failed(reservationId, errorCode));
+            } else {
+                changeableIds.add(reservationId);
+                results.add(ReservationStatusResult.updated(reservationId, status));
+            }
+        }
+
+        if (!changeableIds.isEmpty()) {
+            reservationRepository.updateStatusByIdIn(changeableIds, CHANGEABLE_STATUSES, status);
+
+            // 커밋 이후 키오스크 방문 예정 목록에 반영
+            TransactionUtils.afterCommit(() -> {
+                if (status == APPROVAL) {
+                    kioskArrivalIndex.putAll(changeableIds);
+                } else {
+                    kioskArrivalIndex.removeAll(changeableIds);
+                }
+            });
+        }
+
+        return results;
+    }
+
+    // 일괄 승인, 거절할 수 없는 예약이면 그 이유를 리턴
+    private static ErrorCode validateStatusChange(ReservationOwner reservation, String userId) {
+        if (reservation == null) {
+            return NOT_FOUND_RESERVATION;
+        }
+
+        // 예약된 매장의 점장과 로그인한 사용자의 아이디가 일치하지 않으면 변경하지 않음
+        if (!Objects.equals(reservation.getOwner(), userId)) {
+            return SERVICE_ONLY_FOR_OWNER;
+        }
+
+        // 방문한 예약을 다시 승인하면 리뷰를 한 번 더 작성할 수 있게 되므로 변경하지 않음
+        if (Boolean.TRUE.equals(reservation.getVisitYn())) {
+            return ALREADY_VISITED_RESERVATION;
+        }
+
+        if (!CHANGEABLE_STATUSES.contains(reservation.getReservationStatus())) {
+            return CANNOT_CHANGE_RESERVATION_STATUS;
+        }
+
+        return null;
+    }
+
+
+    // 사용자 권한을 가진 로그인 사용자를 조회, 사용자 권한이 없으면 예외 발생
+    private Member getLoginUser() {
+        String userId = LoginCheckUtils.getUserId();
+        List<String> authorities = LoginCheckUtils.getAuthorities();
+
+        if (!authorities.contains("ROLE_USER")) {
+            throw new ReservationException(ONLY_FOR_USER);
+        }
+
+        return getMember(userId);
+    }
+
+    // 로그인한 파트너가 점장인 매장을 조회
+    private Store getOwnedStore(Long storeId) {
+        List<String> authorities = LoginCheckUtils.getAuthorities();
+        String userId = LoginCheckUtils.getUserId();
+
+        // 파트너 권한이 없으면 예외 발생
+        if (!authorities.contains("ROLE_PARTNER")) {
+            throw new ReservationException(ONLY_FOR_PARTNER);
+        }
+
+        Store store = getStore(storeId);
+        Member member = getMember(userId);
+
+        // 매장의 점장과, 로그인한 사용자의 아이디가 같아야 해당 매장의 점장임을 확인할 수 있음
+        // 다르다면 예외 발생
+        if (!Objects.equals(store.getOwner(), member.getUserId())) {
+            throw new ReservationException(SERVICE_ONLY_FOR_OWNER);
+        }
+
+        return store;
+    }
 
     private Member getMember(String userId) {
         return memberRepository.findByUserId(userId)
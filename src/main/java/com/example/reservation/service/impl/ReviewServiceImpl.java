@@ -1,5 +1,7 @@
 package com.example.reservation.service.impl;
 
+import com.example.reservation.cache.StoreDetailCache;
+import com.example.reservation.cache.StoreSearchIndex;
 import com.example.reservation.domain.entity.Member;
 import com.example.reservation.domain.entity.Reservation;
 import com.example.reservation.domain.entity.Review;
@@ -16,12 +18,15 @@ import com.example.reservation.repository.ReviewRepository;
 import com.example.reservation.repository.StoreRepository;
 import com.example.reservation.service.ReviewService;
 import com.example.reservation.utils.LoginCheckUtils;
+import com.example.reservation.utils.TransactionUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import static com.example.reservation.exception.ErrorCode.NOT_FOUND_REVIEW;
 import static com.example.reservation.exception.ErrorCode.UNMATCH_REVIEW_USER;
@@ -32,16 +37,21 @@ import static com.example.reservation.type.ReservationStatus.REVIEWED;
 @RequiredArgsConstructor
 public class ReviewServiceImpl implements ReviewService {
 
+    private static final int MAX_FEED_SIZE = 100;
+
     private final ReservationRepository reservationRepository;
     private final MemberRepository memberRepository;
     private final StoreRepository storeRepository;
     private final ReviewRepository reviewRepository;
+    private final StoreSearchIndex storeSearchIndex;
+    private final StoreDetailCache storeDetailCache;
 
     /**
      * 각 예약 내역에 대한 리뷰를 작성할 수 있도록 함
      * 한 번 리뷰를 작성한 예약 내역에 대해서는 다시 작성할 수 없도록 한다. (매장 평점 조작 방지)
      */
     @Override
+    @Transactional
     public ReviewResponse addReview(Long reservationId, ReviewRequest reviewRequest) {
         String userId = LoginCheckUtils.getUserId();
 
@@ -51,7 +61,7 @@ public class ReviewServiceImpl implements ReviewService {
         Reservation reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new ReservationException(ErrorCode.NOT_FOUND_RESERVATION));
 
-        Store store = storeRepository.findById(reservation.getStore().getId())
+        Store store = storeRepository.findByIdForUpdate(reservation.getStore().getId())
                 .orElseThrow(() -> new ReservationException(ErrorCode.NOT_FOUND_STORE));
 
 
@@ -66,8 +76,9 @@ public class ReviewServiceImpl implements ReviewService {
                 .build());
 
         // 매장의 평점 정보를 업데이트
-        store.updateRating();
+        store.addRating(reviewRequest.getRating());
         storeRepository.save(store);
+        refreshStore(store);
 
         // 예약 상태를 리뷰 완료 상태로 변경
         reservation.updateStatus(REVIEWED);
@@ -101,6 +112,7 @@ public class ReviewServiceImpl implements ReviewService {
      * 내용과 평점을 변경할 수 있음
      */
     @Override
+    @Transactional
     public ReviewResponse updateReview(Long reviewId, ReviewUpdateRequest reviewUpdateRequest) {
         String userId = LoginCheckUtils.getUserId();
 
@@ -112,13 +124,17 @@ public class ReviewServiceImpl implements ReviewService {
             throw new ReservationException(UNMATCH_REVIEW_USER);
         }
 
+        Store store = getStoreForUpdate(review);
+        double previousRating = review.getRating();
+
         review.updateReivew(reviewUpdateRequest.getContent(), reviewUpdateRequest.getRating());
 
         reviewRepository.save(review);
 
         // 수정된 평점으로 매장 평점 업데이트
-        review.getStore().updateRating();
-        storeRepository.save(review.getStore());
+        store.changeRating(previousRating, review.getRating());
+        storeRepository.save(store);
+        refreshStore(store);
 
         return ReviewResponse.builder()
                 .userId(review.getMember().getUserId())
@@ -132,6 +148,7 @@ public class ReviewServiceImpl implements ReviewService {
      * 리뷰 삭제
      */
     @Override
+    @Transactional
     public MessageResponse deleteReview(Long reviewId) {
         String userId = LoginCheckUtils.getUserId();
 
@@ -143,37 +160,46 @@ public class ReviewServiceImpl implements ReviewService {
             throw new ReservationException(UNMATCH_REVIEW_USER);
         }
 
+        Store store = getStoreForUpdate(review);
+
         // 리뷰를 삭제하면서 매장의 평점 정보도 업데이트
         reviewRepository.delete(review);
-        review.getStore().updateRating();
+        store.removeRating(review.getRating());
 
-        storeRepository.save(review.getStore());
+        storeRepository.save(store);
+        refreshStore(store);
 
         return MessageResponse.builder()
                 .message("리뷰 삭제 완료!")
                 .build();
     }
 
+    // 평점 집계 값을 갱신하기 위해 락을 걸고 매장을 조회
+    private Store getStoreForUpdate(Review review) {
+        return storeRepository.findByIdForUpdate(review.getStore().getId())
+                .orElseThrow(() -> new ReservationException(ErrorCode.NOT_FOUND_STORE));
+    }
+
+    // 변경된 평점을 커밋 이후에 검색 인덱스에 반영하고 상세 정보 캐시에서 제거
+    private void refreshStore(Store store) {
+        TransactionUtils.afterCommit(() -> {
+            storeSearchIndex.put(store);
+            storeDetailCache.invalidate(store.getId());
+        });
+    }
 
     /**
-     * 매장 아이디를 통해 매장을 찾고,
-     * 해당 매장이 가진 리뷰들을 작성일자가 빠른 순으로 정렬해서 리스트를 보여준다.
+     * 매장의 리뷰들을 최근에 작성된 순으로 페이지 단위로 보여준다.
+     * 한 번에 조회하는 리뷰 개수는 최대 100개로 제한한다.
      */
     @Override
-    public List<ReviewResponse> showReviews(Long storeId) {
-        Store store = storeRepository.findById(storeId)
-                .orElseThrow(() -> new ReservationException(ErrorCode.NOT_FOUND_STORE));
+    public Slice<ReviewResponse> showReviews(Long storeId, Pageable pageable) {
+        if (!storeRepository.existsById(storeId)) {
+            throw new ReservationException(ErrorCode.NOT_FOUND_STORE);
+        }
+
+        Pageable feedPageable = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_FEED_SIZE));
 
-        List<Review> reviews = store.getReviews();
-
-        // 리뷰 목록을 최근에 작성한 리뷰 순으로 반환
-        return reviews.stream()
-                .sorted((x, y) -> y.getCreatedAt().compareTo(x.getCreatedAt()))
-                .map(review -> ReviewResponse.builder()
-                        .userId(review.getMember().getUserId())
-                        .storeName(review.getStore().getName())
-                        .content(review.getContent())
-                        .rating(review.getRating())
-                        .build()).collect(Collectors.toList());
+        return reviewRepository.findFeedByStoreId(storeId, feedPageable);
     }
 }
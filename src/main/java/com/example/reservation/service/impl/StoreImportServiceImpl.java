@@ -0,0 +1,213 @@
+package com.example.reservation.service.impl;
+
+import com.example.reservation.cache.StoreSearchIndex;
+import com.example.reservation.domain.entity.Store;
+import com.example.reservation.domain.model.StoreImportError;
+import com.example.reservation.domain.model.StoreImportResponse;
+import com.example.reservation.domain.model.StoreRequest;
+import com.example.reservation.exception.ErrorCode;
+import com.example.reservation.exception.ReservationException;
+import com.example.reservation.importer.StoreImportFormat;
+import com.example.reservation.importer.StoreImportRow;
+import com.example.reservation.importer.StoreRowReader;
+import com.example.reservation.repository.StoreRepository;
+import com.example.reservation.service.StoreImportService;
+import com.example.reservation.utils.LoginCheckUtils;
+import com.example.reservation.utils.StoreIdentityUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.example.reservation.exception.ErrorCode.*;
+
+/**
+ * 매장 일괄 등록
+ * 요청 본문을 한 행씩 읽어서 CHUNK_SIZE 개씩 모아 처리하므로 파일 크기와 상관없이 메모리 사용량이 일정하다.
+ * 묶음마다 매장 식별 키 목록으로 이미 등록된 키를 한 번에 조회해서 중복을 확인하고, 나머지를 하나의 트랜잭션에서 배치로 저장한다.
+ * 앞 묶음은 이미 커밋되어 있으므로 같은 파일 안의 중복도 다음 묶음의 조회에서 걸러진다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreImportServiceImpl implements StoreImportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final StoreRepository storeRepository;
+    private final StoreSearchIndex storeSearchIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public StoreImportResponse importStores(InputStream inputStream, StoreImportFormat format) {
+        List<String> authorities = LoginCheckUtils.getAuthorities();
+        String userId = LoginCheckUtils.getUserId();
+
+        // 파트너 권한이 없는 경우
+        if (!authorities.contains("ROLE_PARTNER")) {
+            throw new ReservationException(ONLY_FOR_PARTNER);
+        }
+
+        ImportResult result = new ImportResult();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        StoreRowReader rowReader = format.reader(reader, objectMapper);
+        List<StoreImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try {
+            StoreImportRow row;
+
+            while ((row = rowReader.next()) != null) {
+                chunk.add(row);
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, userId, result);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            log.error("매장 일괄 등록 파일 읽기 실패 - {}행까지 처리", result.total, e);
+            throw new ReservationException(INVALID_REQUEST);
+        }
+
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, userId, result);
+        }
+
+        log.info("매장 일괄 등록 완료 - 전체 {}행, 등록 {}행, 실패 {}행", result.total, result.imported, result.failed);
+
+        return result.toResponse();
+    }
+
+    private void importChunk(List<StoreImportRow> chunk, String userId, ImportResult result) {
+        result.total += chunk.size();
+
+        List<StoreImportRow> validRows = new ArrayList<>(chunk.size());
+
+        for (StoreImportRow row : chunk) {
+            if (row.isFailed()) {
+                result.fail(row.getLine(), INVALID_REQUEST, row.getError());
+                continue;
+            }
+
+            String violation = validate(row.getStoreRequest());
+
+            if (violation != null) {
+                result.fail(row.getLine(), INVALID_REQUEST, violation);
+                continue;
+            }
+
+            validRows.add(row);
+        }
+
+        if (validRows.isEmpty()) {
+            return;
+        }
+
+        // 정규화한 주소와 연락처가 같으면 같은 매장이라고 판단
+        List<String> keys = validRows.stream()
+                .map(row -> StoreIdentityUtils.key(row.getStoreRequest().getAddress(), row.getStoreRequest().getContact()))
+                .collect(Collectors.toList());
+
+        Set<String> existingKeys = new HashSet<>(storeRepository.findIdentityKeysIn(new HashSet<>(keys)));
+
+        List<Store> stores = new ArrayList<>(validRows.size());
+        List<Long> lines = new ArrayList<>(validRows.size());
+
+        for (int i = 0; i < validRows.size(); i++) {
+            StoreImportRow row = validRows.get(i);
+            StoreRequest request = row.getStoreRequest();
+
+            // 이미 등록된 매장이거나 같은 묶음 안에서 앞에 나온 매장이면 등록하지 않음
+            if (!existingKeys.add(keys.get(i))) {
+                result.fail(row.getLine(), ALREADY_EXISTS_STORE, ALREADY_EXISTS_STORE.getDescription());
+                continue;
+            }
+
+            stores.add(Store.builder()
+                    .owner(userId)
+                    .name(request.getName())
+                    .address(request.getAddress())
+                    .description(request.getDescription())
+                    .contact(request.getContact())
+                    .open(request.getOpen())
+                    .close(request.getClose())
+                    .build());
+            lines.add(row.getLine());
+        }
+
+        if (stores.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Store> savedStores = transactionTemplate.execute(status -> storeRepository.saveAll(stores));
+
+            savedStores.forEach(storeSearchIndex::put);
+            result.imported += savedStores.size();
+        } catch (DataAccessException e) {
+            // 묶음 단위로 저장하므로 저장 실패 시 묶음의 모든 행을 실패로 처리
+            log.error("매장 일괄 등록 저장 실패 - {}행부터 {}개", lines.get(0), lines.size(), e);
+            lines.forEach(line -> result.fail(line, INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR.getDescription()));
+        }
+    }
+
+    // 검증에 실패하면 첫 번째 실패 이유를 리턴, 성공하면 null
+    private String validate(StoreRequest storeRequest) {
+        Set<ConstraintViolation<StoreRequest>> violations = validator.validate(storeRequest);
+
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        ConstraintViolation<StoreRequest> violation = violations.iterator().next();
+
+        return violation.getPropertyPath() + " " + violation.getMessage();
+    }
+
+    // 처리 결과 집계, 실패한 행은 MAX_REPORTED_ERRORS 개까지만 보관
+    private static class ImportResult {
+        private long total;
+        private long imported;
+        private long failed;
+        private final List<StoreImportError> errors = new ArrayList<>();
+
+        private void fail(long line, ErrorCode errorCode, String message) {
+            failed++;
+
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new StoreImportError(line, errorCode, message));
+            }
+        }
+
+        private StoreImportResponse toResponse() {
+            errors.sort(Comparator.comparingLong(StoreImportError::getLine));
+
+            return StoreImportResponse.builder()
+                    .totalRows(total)
+                    .importedRows(imported)
+                    .failedRows(failed)
+                    .errors(errors)
+                    .errorsTruncated(failed > errors.size())
+                    .build();
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.reservation.service.impl;
 
+import com.example.reservation.cache.StoreDetailCache;
+import com.example.reservation.cache.StoreRankingSnapshot;
+import com.example.reservation.cache.StoreSearchIndex;
 import com.example.reservation.domain.entity.Store;
+import com.example.reservation.domain.model.CursorResponse;
 import com.example.reservation.domain.model.MessageResponse;
 import com.example.reservation.domain.model.StoreRequest;
 import com.example.reservation.domain.model.StoreResponse;
@@ -8,15 +12,19 @@ import com.example.reservation.exception.ErrorCode;
 import com.example.reservation.exception.ReservationException;
 import com.example.reservation.repository.StoreRepository;
 import com.example.reservation.service.StoreService;
+import com.example.reservation.utils.CursorUtils;
 import com.example.reservation.utils.LoginCheckUtils;
+import com.example.reservation.utils.StoreIdentityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
+import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static com.example.reservation.exception.ErrorCode.*;
@@ -26,7 +34,12 @@ import static com.example.reservation.exception.ErrorCode.*;
 @Slf4j
 public class StoreServiceImpl implements StoreService {
 
+    private static final int MAX_SEARCH_SIZE = 50;
+
     private final StoreRepository storeRepository;
+    private final StoreSearchIndex storeSearchIndex;
+    private final StoreDetailCache storeDetailCache;
+    private final StoreRankingSnapshot storeRankingSnapshot;
 
     /**
      * 매장 등록
@@ -43,11 +56,11 @@ public class StoreServiceImpl implements StoreService {
             throw new ReservationException(ONLY_FOR_PARTNER);
         }
 
-        // 주소와 연락처가 같으면 같은 매장이라고 판단
-        Optional<Store> optionalStore = storeRepository.findByAddressAndContact(storeRequest.getAddress(), storeRequest.getContact());
+        // 정규화한 주소와 연락처가 같으면 같은 매장이라고 판단
+        String identityKey = StoreIdentityUtils.key(storeRequest.getAddress(), storeRequest.getContact());
 
         // 같은 매장이 존재하면 예외 발생 (동일한 매장 중복 등록 불가능)
-        if (optionalStore.isPresent()) {
+        if (storeRepository.existsByIdentityKey(identityKey)) {
             throw new ReservationException(ErrorCode.ALREADY_EXISTS_STORE);
         }
 
@@ -61,7 +74,8 @@ public class StoreServiceImpl implements StoreService {
                 .close(storeRequest.getClose())
                 .build();
 
-        Store savedStore = storeRepository.save(store);
+        Store savedStore = saveStore(store);
+        storeSearchIndex.put(savedStore);
 
         return StoreResponse.of(savedStore);
     }
@@ -86,18 +100,19 @@ public class StoreServiceImpl implements StoreService {
         // 점장과 로그인 한 사용자 아이디를 비교, 다르면 소유한 매장이 아니므로 예외 발생
         validateOwnerAndUser(store.getOwner(), userId);
 
-        // 매장 정보 수정
-        store.updateStore(storeRequest);
-
-        // 수정된 정보로 매장을 찾음
-        Optional<Store> optionalStore = storeRepository.findByAddressAndContact(store.getAddress(), store.getContact());
+        // 수정할 정보와 같은 다른 매장이 존재하면 예외 발생 (동일한 매장 중복 등록 불가능)
+        String identityKey = StoreIdentityUtils.key(storeRequest.getAddress(), storeRequest.getContact());
 
-        // 같은 매장이 존재하면 예외 발생 (동일한 매장 중복 등록 불가능)
-        if (optionalStore.isPresent()) {
+        if (storeRepository.existsByIdentityKeyAndIdNot(identityKey, storeId)) {
             throw new ReservationException(ErrorCode.ALREADY_EXISTS_STORE);
         }
 
-        Store savedStore = storeRepository.save(store);
+        // 매장 정보 수정
+        store.updateStore(storeRequest);
+
+        Store savedStore = saveStore(store);
+        storeSearchIndex.put(savedStore);
+        storeDetailCache.invalidate(storeId);
 
         return StoreResponse.of(savedStore);
     }
@@ -123,6 +138,8 @@ public class StoreServiceImpl implements StoreService {
         validateOwnerAndUser(store.getOwner(), userId);
 
         storeRepository.delete(store);
+        storeSearchIndex.remove(storeId);
+        storeDetailCache.invalidate(storeId);
 
         return MessageResponse.builder()
                 .message("매장 삭제 완료!")
@@ -143,22 +160,41 @@ public class StoreServiceImpl implements StoreService {
         }
     }
 
+    // 조회 후 저장 사이에 같은 매장이 등록되면 식별 키 유니크 제약으로 걸러낸다.
+    private Store saveStore(Store store) {
+        try {
+            return storeRepository.saveAndFlush(store);
+        } catch (DataIntegrityViolationException e) {
+            throw new ReservationException(ALREADY_EXISTS_STORE);
+        }
+    }
+
     /**
      * 매장을 이름 순으로 리스트업
+     * 정렬 스냅샷이 준비되어 있으면 DB 조회 없이 스냅샷에서 잘라서 리턴
      */
     @Override
     public Page<StoreResponse> getStoresOrderByName(Pageable pageable) {
-        Page<Store> orderByName = storeRepository.findAllByOrderByName(pageable);
+        if (storeRankingSnapshot.isReady()) {
+            return storeRankingSnapshot.getPageOrderByName(pageable);
+        }
+
+        Page<Store> orderByName = storeRepository.findAllByOrderByNameAscIdAsc(pageable);
 
         return StoreResponse.toDtoList(orderByName);
     }
 
     /**
      * 매장을 평점 순으로 리스트업
+     * 정렬 스냅샷이 준비되어 있으면 DB 조회 없이 스냅샷에서 잘라서 리턴
      */
     @Override
     public Page<StoreResponse> getStoresOrderByRating(Pageable pageable) {
-        Page<Store> orderByRating = storeRepository.findAllByOrderByRatingDesc(pageable);
+        if (storeRankingSnapshot.isReady()) {
+            return storeRankingSnapshot.getPageOrderByRating(pageable);
+        }
+
+        Page<Store> orderByRating = storeRepository.findAllByOrderByRatingDescIdDesc(pageable);
 
         return StoreResponse.toDtoList(orderByRating);
     }
@@ -168,30 +204,99 @@ public class StoreServiceImpl implements StoreService {
      */
     @Override
     public Page<StoreResponse> getStoresOrderByReviewCount(Pageable pageable) {
-        Page<Store> orderByReviewCount = storeRepository.findAllByOrderByReviewCountDesc(pageable);
+        Page<Store> orderByReviewCount = storeRepository.findAllByOrderByReviewCountDescIdDesc(pageable);
 
         return StoreResponse.toDtoList(orderByReviewCount);
     }
 
+    /**
+     * 매장을 이름 순으로 리스트업 (커서 기반)
+     */
+    @Override
+    public CursorResponse<StoreResponse> getStoresOrderByNameAfter(String after, int size) {
+        int pageSize = CursorUtils.pageSize(size);
+        List<Store> stores;
+
+        if (StringUtils.hasText(after)) {
+            CursorUtils.Cursor cursor = CursorUtils.decode(after);
+            stores = storeRepository.findPageOrderByNameAfter(cursor.getSortKey(), cursor.getId(), CursorUtils.lookAhead(pageSize));
+        } else {
+            stores = storeRepository.findPageOrderByName(CursorUtils.lookAhead(pageSize));
+        }
+
+        return CursorResponse.of(stores, pageSize, StoreResponse::of,
+                store -> CursorUtils.encode(store.getName(), store.getId()));
+    }
+
+    /**
+     * 매장을 평점 순으로 리스트업 (커서 기반)
+     */
+    @Override
+    public CursorResponse<StoreResponse> getStoresOrderByRatingAfter(String after, int size) {
+        int pageSize = CursorUtils.pageSize(size);
+        List<Store> stores;
+
+        if (StringUtils.hasText(after)) {
+            CursorUtils.Cursor cursor = CursorUtils.decode(after);
+            stores = storeRepository.findPageOrderByRatingAfter(cursor.getSortKeyAsDouble(), cursor.getId(), CursorUtils.lookAhead(pageSize));
+        } else {
+            stores = storeRepository.findPageOrderByRating(CursorUtils.lookAhead(pageSize));
+        }
+
+        return CursorResponse.of(stores, pageSize, StoreResponse::of,
+                store -> CursorUtils.encode(store.getRating(), store.getId()));
+    }
+
+    /**
+     * 매장을 리뷰 개수가 많은 순으로 리스트업 (커서 기반)
+     */
+    @Override
+    public CursorResponse<StoreResponse> getStoresOrderByReviewCountAfter(String after, int size) {
+        int pageSize = CursorUtils.pageSize(size);
+        List<Store> stores;
+
+        if (StringUtils.hasText(after)) {
+            CursorUtils.Cursor cursor = CursorUtils.decode(after);
+            stores = storeRepository.findPageOrderByReviewCountAfter(cursor.getSortKeyAsInteger(), cursor.getId(), CursorUtils.lookAhead(pageSize));
+        } else {
+            stores = storeRepository.findPageOrderByReviewCount(CursorUtils.lookAhead(pageSize));
+        }
+
+        return CursorResponse.of(stores, pageSize, StoreResponse::of,
+                store -> CursorUtils.encode(store.getReviewCount(), store.getId()));
+    }
+
     /**
      * 매장 검색
+     * 검색 인덱스에서 이름이 입력값으로 시작하는 매장을 평점이 높은 순으로 size 개까지 가져온다.
+     * 인덱스가 아직 적재되지 않았다면 DB 에서 조회
      */
     @Override
-    public List<StoreResponse> searchStore(String name) {
+    public List<StoreResponse> searchStore(String name, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SEARCH_SIZE);
+
+        if (storeSearchIndex.isReady()) {
+            return storeSearchIndex.search(name, limit);
+        }
+
         List<Store> storeList = storeRepository.findByNameStartsWith(name);
 
-        return storeList.stream().map(StoreResponse::of).collect(Collectors.toList());
+        return storeList.stream()
+                .sorted(Comparator.comparing(Store::getRating).reversed())
+                .limit(limit)
+                .map(StoreResponse::of)
+                .collect(Collectors.toList());
     }
 
     /**
      * 매장 상세 정보 확인
+     * 캐시에 없는 경우에만 DB 에서 조회
      */
     @Override
     public StoreResponse getStoreDetails(Long id) {
-        Store store = storeRepository.findById(id)
-                .orElseThrow(() -> new ReservationException(NOT_FOUND_STORE));
-
-        return StoreResponse.of(store);
+        return storeDetailCache.get(id, storeId -> storeRepository.findById(storeId)
+                .map(StoreResponse::of)
+                .orElseThrow(() -> new ReservationException(NOT_FOUND_STORE)));
     }
 
 
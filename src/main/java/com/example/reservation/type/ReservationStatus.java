@@ -7,7 +7,13 @@ public enum ReservationStatus {
     APPROVAL("예약 승인"),
     WAITING("승인 대기"),
     REVIEWED("리뷰 작성 완료"),
-    REFUSAL("예약 거절");
+    REFUSAL("예약 거절"),
+
+    // 예약 시간이 지날 때까지 승인되지 않은 예약
+    EXPIRED("기간 만료"),
+
+    // 승인되었지만 예약 시간이 지날 때까지 방문하지 않은 예약
+    NO_SHOW("노쇼");
 
     private final String description;
 }
@@ -0,0 +1,80 @@
+package com.example.reservation.utils;
+
+import com.example.reservation.exception.ReservationException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static com.example.reservation.exception.ErrorCode.INVALID_REQUEST;
+
+public class CursorUtils {
+
+    private static final char SEPARATOR = '|';
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 마지막 행의 정렬 키와 아이디를 클라이언트가 해석할 필요 없는 문자열로 인코딩한다.
+    public static String encode(Object sortKey, Long id) {
+        String raw = sortKey + String.valueOf(SEPARATOR) + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서를 정렬 키와 아이디로 복원한다. 잘못된 커서인 경우 예외 발생
+    public static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(SEPARATOR);
+
+            return new Cursor(raw.substring(0, index), Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ReservationException(INVALID_REQUEST);
+        }
+    }
+
+    // 요청한 페이지 크기를 1 ~ 100 사이로 맞춘다.
+    public static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    // 다음 페이지 존재 여부를 알기 위해 페이지 크기보다 하나 더 조회한다.
+    public static Pageable lookAhead(int pageSize) {
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Cursor {
+        private final String sortKey;
+        private final Long id;
+
+        public Double getSortKeyAsDouble() {
+            try {
+                return Double.valueOf(sortKey);
+            } catch (NumberFormatException e) {
+                throw new ReservationException(INVALID_REQUEST);
+            }
+        }
+
+        public Integer getSortKeyAsInteger() {
+            try {
+                return Integer.valueOf(sortKey);
+            } catch (NumberFormatException e) {
+                throw new ReservationException(INVALID_REQUEST);
+            }
+        }
+
+        public LocalDateTime getSortKeyAsDateTime() {
+            try {
+                return LocalDateTime.parse(sortKey);
+            } catch (DateTimeParseException e) {
+                throw new ReservationException(INVALID_REQUEST);
+            }
+        }
+    }
+}
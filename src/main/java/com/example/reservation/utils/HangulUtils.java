@@ -0,0 +1,72 @@
+package com.example.reservation.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한글 자모 분리 유틸
+ * 음절을 키보드로 입력하는 순서의 자모로 분리해서 입력 중인 글자(예: "가ㄴ", "ㄱ")로도 접두사 검색이 가능하도록 한다.
+ */
+public class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 이중 모음은 입력 순서대로 분리 (ㅘ -> ㅗㅏ)
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+            "ㅣ"
+    };
+
+    // 겹받침은 입력 순서대로 분리 (ㄳ -> ㄱㅅ)
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 단독으로 입력된 겹자모 (호환용 자모)
+    private static final Map<Character, String> COMPOUND_JAMO = new HashMap<>();
+
+    static {
+        String[][] compounds = {
+                {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"},
+                {"ㄼ", "ㄹㅂ"}, {"ㄽ", "ㄹㅅ"}, {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"},
+                {"ㅄ", "ㅂㅅ"}, {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"},
+                {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}
+        };
+
+        for (String[] compound : compounds) {
+            COMPOUND_JAMO.put(compound[0].charAt(0), compound[1]);
+        }
+    }
+
+    // 문자열을 자모 단위로 분리하고, 영문은 소문자로 변환한다.
+    public static String decompose(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                int index = c - SYLLABLE_BEGIN;
+
+                sb.append(CHOSEONG[index / (21 * 28)])
+                        .append(JUNGSEONG[(index % (21 * 28)) / 28])
+                        .append(JONGSEONG[index % 28]);
+            } else if (COMPOUND_JAMO.containsKey(c)) {
+                sb.append(COMPOUND_JAMO.get(c));
+            } else {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+
+        return sb.toString();
+    }
+}
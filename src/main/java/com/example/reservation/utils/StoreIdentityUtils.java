@@ -0,0 +1,107 @@
+package com.example.reservation.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 매장 식별 키 유틸
+ * 주소와 연락처를 정규화한 뒤 SHA-256 으로 해시해서 고정 길이(64자)의 키를 만든다.
+ * 표기만 다른 같은 매장(띄어쓰기, 전화번호의 하이픈, "서울특별시"와 "서울시" 등)은 같은 키가 된다.
+ *
+ * 주소: 유니코드 호환 문자 정규화(NFKC), 소문자 변환, 쉼표와 마침표와 괄호 제거 후 단어마다 축약어를 통일하고 공백 없이 붙인다.
+ * 연락처: 숫자만 남기고, 국가 번호 82 로 시작하면 0 으로 바꾼다.
+ */
+public class StoreIdentityUtils {
+
+    public static final int KEY_LENGTH = 64;
+
+    private static final char SEPARATOR = '\u0000';
+
+    // 주소 단어 -> 통일된 표기
+    private static final Map<String, String> ADDRESS_ALIASES = new HashMap<>();
+
+    static {
+        String[][] aliases = {
+                {"서울특별시", "서울"}, {"서울시", "서울"},
+                {"부산광역시", "부산"}, {"부산시", "부산"},
+                {"대구광역시", "대구"}, {"대구시", "대구"},
+                {"인천광역시", "인천"}, {"인천시", "인천"},
+                {"광주광역시", "광주"},
+                {"대전광역시", "대전"}, {"대전시", "대전"},
+                {"울산광역시", "울산"}, {"울산시", "울산"},
+                {"세종특별자치시", "세종"}, {"세종시", "세종"},
+                {"경기도", "경기"},
+                {"강원도", "강원"}, {"강원특별자치도", "강원"},
+                {"충청북도", "충북"}, {"충청남도", "충남"},
+                {"전라북도", "전북"}, {"전북특별자치도", "전북"}, {"전라남도", "전남"},
+                {"경상북도", "경북"}, {"경상남도", "경남"},
+                {"제주특별자치도", "제주"}, {"제주도", "제주"},
+                {"street", "st"}, {"road", "rd"}, {"avenue", "ave"}, {"boulevard", "blvd"},
+                {"building", "bldg"}, {"floor", "fl"}, {"apartment", "apt"}
+        };
+
+        for (String[] alias : aliases) {
+            ADDRESS_ALIASES.put(alias[0], alias[1]);
+        }
+    }
+
+    public static String key(String address, String contact) {
+        String normalized = normalizeAddress(address) + SEPARATOR + normalizeContact(contact);
+
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+            StringBuilder key = new StringBuilder(KEY_LENGTH);
+
+            for (byte b : hash) {
+                key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+
+            return key.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String normalizeAddress(String address) {
+        if (address == null) {
+            return "";
+        }
+
+        String text = Normalizer.normalize(address, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[,.()]", " ")
+                .trim();
+
+        StringBuilder normalized = new StringBuilder(text.length());
+
+        for (String word : text.split("\\s+")) {
+            normalized.append(ADDRESS_ALIASES.getOrDefault(word, word));
+        }
+
+        return normalized.toString();
+    }
+
+    public static String normalizeContact(String contact) {
+        if (contact == null) {
+            return "";
+        }
+
+        String digits = Normalizer.normalize(contact, Normalizer.Form.NFKC).replaceAll("[^0-9]", "");
+
+        // +82 10-1234-5678 -> 01012345678, +82 2-123-4567 -> 021234567 (국내 번호는 0 으로 시작하므로 82 로 시작하는 10자리 이상은 국가 번호)
+        if (digits.startsWith("82") && digits.length() >= 10) {
+            digits = digits.substring(2);
+
+            if (!digits.startsWith("0")) {
+                digits = "0" + digits;
+            }
+        }
+
+        return digits;
+    }
+}
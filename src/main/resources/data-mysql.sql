@@ -0,0 +1,17 @@
+-- 아이디 생성기의 다음 값을 각 테이블의 최대 아이디 이후로 맞춘다.
+-- IDENTITY 로 생성된 기존 데이터와 아이디가 겹치지 않도록 하며, 이미 더 큰 값이면 유지한다.
+INSERT INTO hibernate_sequences (sequence_name, next_val)
+SELECT 'member', COALESCE(MAX(id), 0) + 1 FROM member
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO hibernate_sequences (sequence_name, next_val)
+SELECT 'store', COALESCE(MAX(id), 0) + 1 FROM store
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO hibernate_sequences (sequence_name, next_val)
+SELECT 'reservation', COALESCE(MAX(id), 0) + 1 FROM reservation
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO hibernate_sequences (sequence_name, next_val)
+SELECT 'review', COALESCE(MAX(id), 0) + 1 FROM review
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
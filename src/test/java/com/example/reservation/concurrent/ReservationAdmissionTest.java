@@ -0,0 +1,137 @@
+package com.example.reservation.concurrent;
+
+import com.example.reservation.cache.ReservationSlotLedger;
+import com.example.reservation.exception.ReservationException;
+import com.example.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReservationAdmissionTest {
+
+    private static final int THREADS = 64;
+    private static final int REQUESTS_PER_THREAD = 2_000;
+    private static final int STORES = 50;
+    private static final int SLOTS_PER_STORE = 40;
+
+    @Test
+    void noDoubleBookingUnderConcurrentRequests() throws Exception {
+        // 저장 로직에 들어온 횟수를 (매장 번호, 예약 시간) 기준으로 세는 가짜 테이블, 중복을 스스로 막지 않는다.
+        Map<String, AtomicInteger> table = new ConcurrentHashMap<>();
+        AtomicInteger databaseChecks = new AtomicInteger();
+
+        ReservationRepository reservationRepository = mock(ReservationRepository.class);
+        when(reservationRepository.existsSlot(anyLong(), any(), any())).thenAnswer(invocation -> {
+            databaseChecks.incrementAndGet();
+            AtomicInteger count = table.get(invocation.getArgument(0) + "|" + invocation.getArgument(1));
+            return count != null && count.get() > 0;
+        });
+
+        ReservationSlotLedger slotLedger = new ReservationSlotLedger(reservationRepository);
+        ReservationAdmission admission = new ReservationAdmission(slotLedger, reservationRepository);
+
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            int seed = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    long storeId = (seed * 31L + i) % STORES;
+                    LocalDateTime slot = base.plusMinutes(((seed + i * 7L) % SLOTS_PER_STORE) * 30);
+
+                    try {
+                        admission.admit(storeId, slot, () -> {
+                            AtomicInteger count = table.computeIfAbsent(storeId + "|" + slot, k -> new AtomicInteger());
+
+                            // 저장 중에 다른 스레드가 같은 시간을 요청할 수 있도록 양보
+                            Thread.yield();
+
+                            return count.incrementAndGet();
+                        });
+                        accepted.incrementAndGet();
+                    } catch (ReservationException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        int total = THREADS * REQUESTS_PER_THREAD;
+
+        // 같은 시간의 저장 로직에는 한 요청만 들어와야 한다. (DB 에 닿기 전에 장부가 거절)
+        assertThat(table.values()).allSatisfy(count -> assertThat(count.get()).isEqualTo(1));
+        assertThat(accepted.get()).isEqualTo(table.size());
+        assertThat(accepted.get() + rejected.get()).isEqualTo(total);
+
+        // 저장이 끝난 시간은 DB 에서 확인하고 거절한다.
+        assertThat(databaseChecks.get()).isPositive();
+
+        for (long storeId = 0; storeId < STORES; storeId++) {
+            for (int slot = 0; slot < SLOTS_PER_STORE; slot++) {
+                LocalDateTime reservationDate = base.plusMinutes(slot * 30L);
+                assertThat(slotLedger.isOccupied(storeId, reservationDate))
+                        .isEqualTo(table.containsKey(storeId + "|" + reservationDate));
+                assertThat(slotLedger.isSaving(storeId, reservationDate)).isFalse();
+            }
+        }
+    }
+
+    @Test
+    void occupiedSlotIsConfirmedAgainstDatabase() {
+        ReservationRepository reservationRepository = mock(ReservationRepository.class);
+        ReservationSlotLedger slotLedger = new ReservationSlotLedger(reservationRepository);
+        ReservationAdmission admission = new ReservationAdmission(slotLedger, reservationRepository);
+
+        LocalDateTime slot = LocalDateTime.now().plusDays(1).withHour(12).withMinute(0).withSecond(0).withNano(0);
+
+        // 다른 서버에서 취소되어 DB 에는 없고 장부에만 남아있는 시간은 예약 가능
+        slotLedger.tryOccupy(1L, slot);
+        slotLedger.complete(1L, slot);
+        when(reservationRepository.existsSlot(1L, slot, slot.plusMinutes(1))).thenReturn(false);
+
+        assertThat(admission.admit(1L, slot, () -> "saved")).isEqualTo("saved");
+
+        // DB 에도 예약이 있으면 저장하지 않고 거절
+        when(reservationRepository.existsSlot(1L, slot, slot.plusMinutes(1))).thenReturn(true);
+
+        assertThatThrownBy(() -> admission.admit(1L, slot, () -> {
+            throw new IllegalStateException("should not save");
+        })).isInstanceOf(ReservationException.class);
+        assertThat(slotLedger.isOccupied(1L, slot)).isTrue();
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.reservation.repository;
+
+import com.example.reservation.domain.entity.Member;
+import com.example.reservation.domain.entity.Reservation;
+import com.example.reservation.domain.entity.Store;
+import com.example.reservation.domain.model.ReservationPartnerResponse;
+import com.example.reservation.domain.model.ReservationResponse;
+import com.example.reservation.type.MemberType;
+import com.example.reservation.type.ReservationStatus;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 목록 조회 시 실행되는 SQL 수 확인
+ * 목록을 DTO 로 변환하면서 매장, 예약자를 예약마다 지연 로딩하면(N+1) 페이지 크기만큼 쿼리가 늘어난다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.sql.init.mode=never"
+})
+class ReservationRepositoryTest {
+
+    private static final int RESERVATIONS = 30;
+    private static final int PAGE_SIZE = 20;
+    private static final LocalDate DATE = LocalDate.now().plusDays(1);
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Member user;
+    private Store hotStore;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(member("user", MemberType.ROLE_USER));
+        hotStore = entityManager.persist(store(0));
+
+        // 사용자는 서로 다른 매장에, 인기 매장에는 서로 다른 사용자가 예약
+        for (int i = 0; i < RESERVATIONS; i++) {
+            Store store = entityManager.persist(store(i + 1));
+            Member visitor = entityManager.persist(member("visitor" + i, MemberType.ROLE_USER));
+
+            entityManager.persist(reservation(user, store, i));
+            entityManager.persist(reservation(visitor, hotStore, i));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void userReservationPageRunsPageAndCountQueriesOnly() {
+        Statistics statistics = statistics();
+
+        Page<Reservation> page = reservationRepository.findAllByMemberOrderByReservationDateDesc(user, PageRequest.of(0, PAGE_SIZE));
+        Page<ReservationResponse> responses = ReservationResponse.toDtoList(page);
+
+        assertThat(responses.getContent()).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void partnerReservationPageRunsPageAndCountQueriesOnly() {
+        Statistics statistics = statistics();
+
+        Page<Reservation> page = reservationRepository.findAllByStoreAndReservationDateBetweenOrderByReservationDate(
+                hotStore, DATE.atStartOfDay(), DATE.atTime(LocalTime.MAX), PageRequest.of(0, PAGE_SIZE));
+        Page<ReservationPartnerResponse> responses = ReservationPartnerResponse.toDtoList(page);
+
+        assertThat(responses.getContent()).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        return statistics;
+    }
+
+    private static Member member(String userId, MemberType memberType) {
+        return Member.builder()
+                .userId(userId)
+                .password("password")
+                .name(userId)
+                .phone("010-0000-0000")
+                .memberType(memberType)
+                .build();
+    }
+
+    private static Store store(int i) {
+        return Store.builder()
+                .owner("partner")
+                .name("매장" + i)
+                .address("서울시 테스트구 " + i + "번길")
+                .contact("02-0000-" + i)
+                .open(LocalTime.of(9, 0))
+                .close(LocalTime.of(22, 0))
+                .build();
+    }
+
+    private static Reservation reservation(Member member, Store store, int i) {
+        return Reservation.builder()
+                .member(member)
+                .store(store)
+                .reservationDate(DATE.atTime(9, 0).plusMinutes(10L * i))
+                .reservationStatus(ReservationStatus.WAITING)
+                .build();
+    }
+}